@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import cloud.grabsky.configuration.benchmarks.Fixtures;
+import com.squareup.moshi.Moshi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares insertion of collected values using {@link MappingPlan.Entry#set} against the reflective {@link Field#set} loop used previously.
+ * Placed in the same package as {@link MappingPlan}, because insertion is not a part of the public API.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class InsertBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int fields;
+
+    private Class<? extends JsonConfiguration> configurationClass;
+
+    private MappingPlan plan;
+    private FieldData[] container;
+
+    private Map<String, FieldData> boxedContainer;
+
+    @Setup
+    public void setup() {
+        this.configurationClass = Fixtures.configuration(fields);
+        this.plan = MappingPlan.compile(configurationClass, new Moshi.Builder().build());
+        this.container = new FieldData[plan.getEntries().size()];
+        this.boxedContainer = new HashMap<>();
+        // Creating values of types matching the fields
+        for (final MappingPlan.Entry entry : plan.getEntries()) {
+            final int i = entry.getOrdinal();
+            final FieldData data = switch (entry.getKind()) {
+                case INT -> FieldData.ofInt(i);
+                case LONG -> FieldData.ofLong(i * 1_000_000_000L);
+                case DOUBLE -> FieldData.ofDouble(i + 0.5D);
+                case BOOLEAN -> FieldData.ofBoolean(i % 2 == 0);
+                case OBJECT -> new FieldData(String.class, "value_" + i);
+            };
+            container[i] = data;
+            boxedContainer.put(entry.getField().getName(), new FieldData(entry.getField().getType(), data.getValue()));
+        }
+    }
+
+    @Benchmark
+    public void reflective() throws IllegalAccessException {
+        for (final Field field : configurationClass.getDeclaredFields()) {
+            final String fieldName = field.getName();
+            // Setting values for matching fields
+            if (boxedContainer.containsKey(fieldName) == true) {
+                field.set(null, boxedContainer.get(fieldName).getValue());
+            }
+        }
+    }
+
+    @Benchmark
+    public void handles() {
+        for (final MappingPlan.Entry entry : plan.getEntries())
+            entry.set(container[entry.getOrdinal()]);
+    }
+
+}
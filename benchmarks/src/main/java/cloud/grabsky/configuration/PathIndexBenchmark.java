@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import cloud.grabsky.configuration.benchmarks.Fixtures;
+import com.squareup.moshi.JsonReader;
+import okio.Buffer;
+import okio.Okio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cost of looking up paths in the document using {@link PathIndex}, which replaced per-field lookups.
+ * Document is kept in memory, so file access is not included. Placed in the same package as {@link PathIndex}, because it is not a part of the public API.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PathIndexBenchmark {
+
+    private static final int FIELDS = 100;
+
+    @Param({ "0", "1000", "10000" })
+    public int padding;
+
+    private Buffer document;
+
+    private PathIndex<String> first;
+    private PathIndex<String> last;
+    private PathIndex<String> all;
+
+    @Setup
+    public void setup() throws IOException {
+        this.document = new Buffer();
+        // Loading the document into memory
+        try (final var source = Okio.source(Fixtures.document(FIELDS, padding))) {
+            document.writeAll(source);
+        }
+        // Path placed at the beginning of the document; Scan is expected to stop right after it
+        this.first = new PathIndex<>();
+        first.put("padding", "padding");
+        // Path placed at the end of the document
+        this.last = new PathIndex<>();
+        last.put("entries.key_" + (FIELDS - 1), "entries.key_" + (FIELDS - 1));
+        // All paths of the configuration
+        this.all = this.compile();
+    }
+
+    @Benchmark
+    public PathIndex<String> compile() {
+        final PathIndex<String> index = new PathIndex<>();
+        for (int i = 0; i < FIELDS; i++)
+            index.put("entries.key_" + i, "entries.key_" + i);
+        return index;
+    }
+
+    @Benchmark
+    public void lookupFirst(final Blackhole blackhole) throws IOException {
+        this.scan(first, blackhole);
+    }
+
+    @Benchmark
+    public void lookupLast(final Blackhole blackhole) throws IOException {
+        this.scan(last, blackhole);
+    }
+
+    @Benchmark
+    public void lookupAll(final Blackhole blackhole) throws IOException {
+        this.scan(all, blackhole);
+    }
+
+    private void scan(final PathIndex<String> index, final Blackhole blackhole) throws IOException {
+        // Copy shares segments with the document, so its contents are not copied
+        try (final JsonReader reader = JsonReader.of(document.copy())) {
+            index.scan(reader, (path, valueReader) -> blackhole.consume(valueReader.readJsonValue()));
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.benchmarks;
+
+import cloud.grabsky.configuration.adapter.AbstractEnumJsonAdapter;
+import cloud.grabsky.configuration.benchmarks.fixtures.Enum5;
+import cloud.grabsky.configuration.benchmarks.fixtures.Enum50;
+import cloud.grabsky.configuration.benchmarks.fixtures.Enum500;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import okio.Buffer;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of {@link AbstractEnumJsonAdapter} depending on number of enum constants, and of a custom {@link UUID} adapter.
+ * Enum lookups are compared against the linear scan over enum constants used previously.
+ * Each invocation reads an array of {@value #VALUES} values kept in memory.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AdapterBenchmark {
+
+    private static final int VALUES = 1000;
+
+    @Param({ "5", "50", "500" })
+    public int constants;
+
+    private JsonAdapter<? extends Enum<?>> enumAdapter;
+    private JsonAdapter<? extends Enum<?>> linearEnumAdapter;
+    private Buffer enumValues;
+    private Buffer exactEnumValues;
+
+    private JsonAdapter<UUID> uuidAdapter;
+    private Buffer uuidValues;
+
+    @Setup
+    public void setup() throws IOException {
+        this.enumAdapter = switch (constants) {
+            case 5 -> new EnumAdapter<>(Enum5.class);
+            case 50 -> new EnumAdapter<>(Enum50.class);
+            case 500 -> new EnumAdapter<>(Enum500.class);
+            default -> throw new IllegalArgumentException("There is no enum with " + constants + " constants.");
+        };
+        this.linearEnumAdapter = switch (constants) {
+            case 5 -> new LinearEnumAdapter<>(Enum5.class);
+            case 50 -> new LinearEnumAdapter<>(Enum50.class);
+            case 500 -> new LinearEnumAdapter<>(Enum500.class);
+            default -> throw new IllegalArgumentException("There is no enum with " + constants + " constants.");
+        };
+        this.uuidAdapter = new UUIDAdapter();
+        // Writing values; Enum values are spread evenly across all constants and written in lower case, and in exact case
+        this.enumValues = new Buffer();
+        this.exactEnumValues = new Buffer();
+        this.uuidValues = new Buffer();
+        try (final JsonWriter enumWriter = JsonWriter.of(enumValues); final JsonWriter exactEnumWriter = JsonWriter.of(exactEnumValues); final JsonWriter uuidWriter = JsonWriter.of(uuidValues)) {
+            enumWriter.beginArray();
+            exactEnumWriter.beginArray();
+            uuidWriter.beginArray();
+            for (int i = 0; i < VALUES; i++) {
+                enumWriter.value("constant_" + (i % constants));
+                exactEnumWriter.value("CONSTANT_" + (i % constants));
+                uuidWriter.value(new UUID(i, i * 31L).toString());
+            }
+            enumWriter.endArray();
+            exactEnumWriter.endArray();
+            uuidWriter.endArray();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void enums(final Blackhole blackhole) throws IOException {
+        read(enumAdapter, enumValues, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void enumsExact(final Blackhole blackhole) throws IOException {
+        read(enumAdapter, exactEnumValues, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void enumsLinear(final Blackhole blackhole) throws IOException {
+        read(linearEnumAdapter, enumValues, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public void uuids(final Blackhole blackhole) throws IOException {
+        read(uuidAdapter, uuidValues, blackhole);
+    }
+
+    private static void read(final JsonAdapter<?> adapter, final Buffer values, final Blackhole blackhole) throws IOException {
+        // Copy shares segments with the original buffer, so its contents are not copied
+        try (final JsonReader reader = JsonReader.of(values.copy())) {
+            reader.beginArray();
+            while (reader.hasNext() == true)
+                blackhole.consume(adapter.fromJson(reader));
+            reader.endArray();
+        }
+    }
+
+    private static final class EnumAdapter<T extends Enum<T>> extends AbstractEnumJsonAdapter<T> {
+
+        private EnumAdapter(final @NotNull Class<T> type) {
+            super(type, false);
+        }
+
+    }
+
+    // Linear scan over enum constants, as previously done by AbstractEnumJsonAdapter.
+    private static final class LinearEnumAdapter<T extends Enum<T>> extends JsonAdapter<T> {
+
+        private final Class<T> type;
+
+        private LinearEnumAdapter(final @NotNull Class<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public T fromJson(final @NotNull JsonReader in) throws IOException {
+            final String value = in.nextString();
+            // Iterating over enum constants for that (enum) type
+            for (final T en : type.getEnumConstants())
+                if (en.name().equalsIgnoreCase(value) == true)
+                    return en;
+            // ...
+            throw new JsonDataException("Expected " + type.getName() + " at " + in.getPath() + " but found: " + value);
+        }
+
+        @Override
+        public void toJson(final @NotNull JsonWriter out, final T value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            // ...
+            out.value(value.name());
+        }
+
+    }
+
+    // Same as adapter used in tests of the core module.
+    private static final class UUIDAdapter extends JsonAdapter<UUID> {
+
+        @Override
+        public UUID fromJson(final @NotNull JsonReader in) throws IOException {
+            if (in.peek() == JsonReader.Token.STRING) {
+                return UUID.fromString(in.nextString());
+            }
+            // Not expecting anything else, skipping value and throwing an exception
+            in.skipValue();
+            // ...
+            throw new JsonDataException("Failed to deserialize: expected STRING, found something else.");
+        }
+
+        @Override
+        public void toJson(final @NotNull JsonWriter out, final UUID value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            // ...
+            out.value(value.toString());
+        }
+
+    }
+
+}
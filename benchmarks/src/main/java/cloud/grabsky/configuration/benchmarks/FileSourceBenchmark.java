@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.benchmarks;
+
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.FileSource;
+import cloud.grabsky.configuration.JsonConfiguration;
+import com.squareup.moshi.Moshi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link FileSource} options on large documents. Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm},
+ * which is the number of bytes allocated per reload.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FileSourceBenchmark {
+
+    @Param({ "STREAM", "MEMORY_MAPPED" })
+    public FileSource source;
+
+    @Param({ "10000", "100000" })
+    public int padding;
+
+    private ConfigurationMapper mapper;
+    private Class<? extends JsonConfiguration> configurationClass;
+    private File file;
+
+    @Setup
+    public void setup() throws IOException {
+        this.mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        this.mapper.setFileSource(source);
+        this.configurationClass = Fixtures.configuration(100);
+        this.file = Fixtures.document(100, padding);
+    }
+
+    @Benchmark
+    public void map() {
+        mapper.map(configurationClass, file);
+    }
+
+}
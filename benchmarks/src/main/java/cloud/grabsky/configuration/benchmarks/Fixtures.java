@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.benchmarks;
+
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.benchmarks.fixtures.Fields10;
+import cloud.grabsky.configuration.benchmarks.fixtures.Fields100;
+import cloud.grabsky.configuration.benchmarks.fixtures.Fields1000;
+import cloud.grabsky.configuration.benchmarks.fixtures.Nested1;
+import cloud.grabsky.configuration.benchmarks.fixtures.Nested16;
+import cloud.grabsky.configuration.benchmarks.fixtures.Nested4;
+import com.squareup.moshi.JsonWriter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Provides deterministic fixtures for benchmarks. Configuration classes are generated by {@code generateFixtures} task.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Fixtures {
+
+    /**
+     * Returns generated configuration class with specified number of fields.
+     */
+    public static @NotNull Class<? extends JsonConfiguration> configuration(final int fields) throws IllegalArgumentException {
+        return switch (fields) {
+            case 10 -> Fields10.class;
+            case 100 -> Fields100.class;
+            case 1000 -> Fields1000.class;
+            default -> throw new IllegalArgumentException("There is no fixture with " + fields + " fields.");
+        };
+    }
+
+    /**
+     * Returns generated configuration class with 10 fields nested at specified depth.
+     */
+    public static @NotNull Class<? extends JsonConfiguration> nested(final int depth) throws IllegalArgumentException {
+        return switch (depth) {
+            case 1 -> Nested1.class;
+            case 4 -> Nested4.class;
+            case 16 -> Nested16.class;
+            default -> throw new IllegalArgumentException("There is no fixture with depth of " + depth + ".");
+        };
+    }
+
+    /**
+     * Writes document with values for all fields of {@link #configuration(int)} class to a temporary file.
+     * Values are preceded by {@code padding} entries which are not mapped to any field and are there only to make the document bigger.
+     */
+    public static @NotNull File document(final int fields, final int padding) throws IOException {
+        final File file = File.createTempFile("configuration-benchmarks-", ".json");
+        file.deleteOnExit();
+        // ...
+        try (final JsonWriter writer = JsonWriter.of(Okio.buffer(Okio.sink(file)))) {
+            writer.setIndent("    ");
+            writer.beginObject();
+            // Writing entries which are not mapped to any field
+            writer.name("padding").beginObject();
+            for (int i = 0; i < padding; i++)
+                writer.name("padding_" + i).beginObject()
+                        .name("string").value("Lorem ipsum dolor sit amet, consectetur adipiscing elit. " + i)
+                        .name("numbers").beginArray().value(i).value(i * 2).value(i * 3).endArray()
+                        .endObject();
+            writer.endObject();
+            // Writing entries which are mapped to fields; Types must be kept in sync with 'generateFixtures' task
+            writer.name("entries").beginObject();
+            for (int i = 0; i < fields; i++) {
+                writer.name("key_" + i);
+                switch (i % 5) {
+                    case 0 -> writer.value("value_" + i);
+                    case 1 -> writer.value(i);
+                    case 2 -> writer.value(i * 1_000_000_000L);
+                    case 3 -> writer.value(i + 0.5D);
+                    default -> writer.value(i % 2 == 0);
+                }
+            }
+            writer.endObject();
+            // ...
+            writer.endObject();
+        }
+        return file;
+    }
+
+    /**
+     * Writes document with values for all fields of {@link #nested(int)} class to a temporary file.
+     * Each of nested objects is preceded by {@code padding} entries which are not mapped to any field.
+     */
+    public static @NotNull File nestedDocument(final int depth, final int padding) throws IOException {
+        final File file = File.createTempFile("configuration-benchmarks-", ".json");
+        file.deleteOnExit();
+        // ...
+        try (final JsonWriter writer = JsonWriter.of(Okio.buffer(Okio.sink(file)))) {
+            writer.setIndent("    ");
+            writer.beginObject();
+            // Writing nested objects, each preceded by entries which are not mapped to any field
+            for (int level = 0; level < depth; level++) {
+                for (int i = 0; i < padding; i++)
+                    writer.name("padding_" + i).value("Lorem ipsum dolor sit amet, consectetur adipiscing elit. " + i);
+                writer.name("n" + level).beginObject();
+            }
+            // Writing entries which are mapped to fields
+            for (int i = 0; i < 10; i++)
+                writer.name("key_" + i).value("value_" + i);
+            // Closing nested objects
+            for (int level = 0; level < depth; level++)
+                writer.endObject();
+            // ...
+            writer.endObject();
+        }
+        return file;
+    }
+
+}
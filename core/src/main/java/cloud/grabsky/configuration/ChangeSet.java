@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Paths of fields which values have changed during a single mapping of a {@link JsonConfiguration} class.
+ * Fields which were mapped to a value equal to their current value are not changed and not included.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class ChangeSet {
+
+    // Paths of changed fields, in declared order.
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull Set<String> paths;
+
+    /**
+     * Returns {@code true} if no field has changed.
+     */
+    public boolean isEmpty() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * Returns {@code true} if field at provided path, or any field nested inside of it, has changed.
+     * For example, {@code contains("messages")} returns {@code true} when field at {@code messages.welcome} has changed.
+     *
+     * @param path path in the same format as {@link JsonPath#value()}.
+     */
+    public boolean contains(final @NotNull String path) {
+        if (paths.contains(path) == true)
+            return true;
+        // ...
+        for (final String changed : paths)
+            if (changed.length() > path.length() && changed.startsWith(path) == true && (changed.charAt(path.length()) == '.' || changed.charAt(path.length()) == '['))
+                return true;
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeSet" + paths;
+    }
+
+}
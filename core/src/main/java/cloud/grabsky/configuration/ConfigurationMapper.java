@@ -24,31 +24,76 @@
 package cloud.grabsky.configuration;
 
 import cloud.grabsky.configuration.exception.ConfigurationMappingException;
-import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
 import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
 import com.squareup.moshi.Moshi;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import okio.Okio;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-
-import static com.squareup.moshi.JsonReader.Token;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class ConfigurationMapper {
 
+    // Executor used to collect values of multiple holders in parallel.
+    private static final Executor DEFAULT_EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("configuration-mapper-", 0).factory());
+
     private final Moshi moshi;
 
+    private volatile Executor executor = DEFAULT_EXECUTOR;
+
+    private volatile FileSource fileSource = FileSource.STREAM;
+
+    private volatile MappingListener listener = null;
+
+    private volatile SnapshotStore snapshotStore = null;
+
+    // Mapping plans compiled for each configuration class. ClassValue does not prevent classes from being unloaded.
+    private final ClassValue<MappingPlan> plans = new ClassValue<>() {
+        @Override
+        protected MappingPlan computeValue(final @NotNull Class<?> configurationClass) {
+            return MappingPlan.compile(configurationClass, moshi);
+        }
+    };
+
+    // Plans used to map documents to new instances of each class.
+    private final ClassValue<InstancePlan<?>> instancePlans = new ClassValue<>() {
+        @Override
+        protected InstancePlan<?> computeValue(final @NotNull Class<?> type) {
+            return InstancePlan.compile(type, moshi);
+        }
+    };
+
+    // File that was last applied to each configuration class. Class holds values of a single file at a time, so mapping any other file is always seen as a change.
+    private final ClassValue<AtomicReference<AppliedFile>> applied = new ClassValue<>() {
+        @Override
+        protected AtomicReference<AppliedFile> computeValue(final @NotNull Class<?> configurationClass) {
+            return new AtomicReference<>();
+        }
+    };
+
     /**
      * Creates {@link ConfigurationMapper} instance using provided {@link Moshi} instance for re-mapping.
      *
@@ -72,6 +117,46 @@ public class ConfigurationMapper {
         this.map(ConfigurationHolder.of(configurationClass, configurationFile));
     }
 
+    /**
+     * Sets {@link Executor} used to collect values of multiple files in parallel. Values of a single file are always collected on the calling thread.
+     * Defaults to an {@link Executor} which starts a new virtual thread for each file.
+     *
+     * @param executor {@link Executor} instance.
+     */
+    public final void setExecutor(final @NotNull Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Sets {@link FileSource} used to read configuration files. Defaults to {@link FileSource#STREAM}.
+     *
+     * @param fileSource {@link FileSource} instance.
+     */
+    public final void setFileSource(final @NotNull FileSource fileSource) {
+        this.fileSource = fileSource;
+    }
+
+    /**
+     * Sets {@link MappingListener} which receives timings of each mapping step, or {@code null} to remove it.
+     * Timings are not measured at all when there is no listener.
+     *
+     * @param listener {@link MappingListener} instance, or {@code null}.
+     */
+    public final void setListener(final @Nullable MappingListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sets {@link SnapshotStore} used to store values collected from each file, or {@code null} to disable snapshots.
+     * Values of files which have not changed since their snapshot was written are read from the snapshot instead of the file.
+     * {@link MappingListener#onCollect} and {@link MappingListener#onField} are not called for values read from snapshots.
+     *
+     * @param snapshotStore {@link SnapshotStore} instance, or {@code null}.
+     */
+    public final void setSnapshotStore(final @Nullable SnapshotStore snapshotStore) {
+        this.snapshotStore = snapshotStore;
+    }
+
     /**
      * Maps contents of all files to {@code public}, {@code static}, {@code non-final} fields declared in relative classes.
      * When method fails due to {@link JsonDataException} - a new {@link ConfigurationMappingException}
@@ -82,114 +167,509 @@ public class ConfigurationMapper {
      */
     @SafeVarargs
     public final void map(final @NotNull ConfigurationHolder<? extends JsonConfiguration>... holders) throws ConfigurationMappingException {
-        final Map<ConfigurationHolder<?>, Map<String, FieldData>> configurations = new LinkedHashMap<>();
-        // Step 1: Collecting values
-        for (var holder : holders) {
-            var configurationClass = holder.getConfigurationClass();
-            final File configurationFile = holder.getFile();
+        this.map(true, holders);
+    }
+
+    /**
+     * Maps contents of all files to {@code public}, {@code static}, {@code non-final} fields declared in relative classes.
+     * Unless {@code force} is {@code true}, files which are still the last file mapped to the same class and have not changed since are skipped
+     * and {@link JsonConfiguration#onReload()} is not called for them. When method fails due to {@link JsonDataException} -
+     * a new {@link ConfigurationMappingException} is thrown and <b><i>all</i></b> fields remain unchanged.
+     *
+     * @param force whether unchanged files should be mapped too.
+     * @param holders vararg of {@link ConfigurationHolder} instances
+     * @return holders which were actually mapped, in declared order.
+     * @throws ConfigurationMappingException when configuration fails to load.
+     */
+    @SafeVarargs
+    public final @NotNull List<ConfigurationHolder<?>> map(final boolean force, final @NotNull ConfigurationHolder<? extends JsonConfiguration>... holders) throws ConfigurationMappingException {
+        final FileFingerprint[] fingerprints = new FileFingerprint[holders.length];
+        // Step 1: Collecting values of changed files (in parallel)
+        final FieldData[][] containers = this.collect(holders, fingerprints, force, new MappingContext());
+        // Step 2 & 3: Inserting values and calling #onReload (in declared order)
+        return this.insert(holders, containers, fingerprints);
+    }
+
+    /**
+     * Maps file contents to {@code public}, {@code static}, {@code non-final} fields declared inside provided class, asynchronously.
+     *
+     * @param commitExecutor {@link Executor} used to insert values and call {@link JsonConfiguration#onReload()}.
+     * @param configurationClass class with fields to be replaced.
+     * @param configurationFile {@link File} containing json configuration.
+     * @return {@link CompletableFuture} which completes after values are inserted.
+     * @see #mapAsync(Executor, ConfigurationHolder[])
+     */
+    public final <T extends JsonConfiguration> @NotNull CompletableFuture<Void> mapAsync(final @NotNull Executor commitExecutor, final @NotNull Class<T> configurationClass, final @NotNull File configurationFile) {
+        return this.mapAsync(commitExecutor, ConfigurationHolder.of(configurationClass, configurationFile));
+    }
+
+    /**
+     * Maps contents of all files to {@code public}, {@code static}, {@code non-final} fields declared in relative classes, asynchronously.
+     * Files are read and parsed using {@link Executor} specified with {@link #setExecutor(Executor)}, then values are inserted
+     * and {@link JsonConfiguration#onReload()} is called using provided {@code commitExecutor}, eg. executor of the main thread.
+     * Values of the same class are never inserted by two calls at once, including calls made from other threads.
+     * When mapping fails, returned {@link CompletableFuture} completes exceptionally with {@link ConfigurationMappingException}
+     * and <b><i>all</i></b> fields remain unchanged.
+     *
+     * @param commitExecutor {@link Executor} used to insert values and call {@link JsonConfiguration#onReload()}.
+     * @param holders vararg of {@link ConfigurationHolder} instances
+     * @return {@link CompletableFuture} which completes after values are inserted.
+     */
+    @SafeVarargs
+    public final @NotNull CompletableFuture<Void> mapAsync(final @NotNull Executor commitExecutor, final @NotNull ConfigurationHolder<? extends JsonConfiguration>... holders) {
+        final CompletableFuture<Void> result = new CompletableFuture<>();
+        // ...
+        this.mapAsync(commitExecutor, true, holders).whenComplete((ignored, error) -> {
+            if (error == null)
+                result.complete(null);
+            else result.completeExceptionally(error);
+        });
+        return result;
+    }
+
+    /**
+     * Maps contents of all files to {@code public}, {@code static}, {@code non-final} fields declared in relative classes, asynchronously.
+     * Unless {@code force} is {@code true}, files which are still the last file mapped to the same class and have not changed since are skipped
+     * and {@link JsonConfiguration#onReload()} is not called for them.
+     *
+     * @param commitExecutor {@link Executor} used to insert values and call {@link JsonConfiguration#onReload()}.
+     * @param force whether unchanged files should be mapped too.
+     * @param holders vararg of {@link ConfigurationHolder} instances
+     * @return {@link CompletableFuture} which completes with holders which were actually mapped, after values are inserted.
+     * @see #mapAsync(Executor, ConfigurationHolder[])
+     */
+    @SafeVarargs
+    public final @NotNull CompletableFuture<List<ConfigurationHolder<?>>> mapAsync(final @NotNull Executor commitExecutor, final boolean force, final @NotNull ConfigurationHolder<? extends JsonConfiguration>... holders) {
+        final CompletableFuture<List<ConfigurationHolder<?>>> result = new CompletableFuture<>();
+        final FileFingerprint[] fingerprints = new FileFingerprint[holders.length];
+        // Collecting values off the calling thread, then inserting them using provided executor
+        this.collectAsync(holders, fingerprints, force, new MappingContext())
+                .thenApplyAsync((containers) -> this.insert(holders, containers, fingerprints), commitExecutor)
+                .whenComplete((applied, error) -> {
+                    if (error == null)
+                        result.complete(applied);
+                    else result.completeExceptionally((error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error);
+                });
+        return result;
+    }
+
+    /**
+     * Maps file contents to a new instance of provided class, instead of {@code static} fields. Records are created using their canonical constructor
+     * and all of their components must be annotated with {@link JsonPath}. Instances of other classes are created using their no-args constructor,
+     * then their non-static fields annotated with {@link JsonPath} are set, including {@code final} ones. Snapshots are not used and {@link MappingListener} is not notified.
+     *
+     * @param type class to create an instance of, eg. a record.
+     * @param file {@link File} containing json configuration.
+     * @return a new instance of provided class.
+     * @throws ConfigurationMappingException when configuration fails to load.
+     * @see #reference(Class, File)
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> @NotNull T mapInstance(final @NotNull Class<T> type, final @NotNull File file) throws ConfigurationMappingException {
+        try {
+            final InstancePlan<T> plan = (InstancePlan<T>) instancePlans.get(type);
+            // Parsing values and creating the instance
+            try (final MappingContext.Scope scope = new MappingContext().enter(); final JsonReader reader = JsonReader.of(Okio.buffer(fileSource.open(file)))) {
+                return plan.read(reader);
+            }
+        } catch (final IOException | RuntimeException error) {
+            throw new ConfigurationMappingException(type, file, error);
+        }
+    }
+
+    /**
+     * Maps file contents to a new instance of provided class, asynchronously, using {@link Executor} specified with {@link #setExecutor(Executor)}.
+     * When mapping fails, returned {@link CompletableFuture} completes exceptionally with {@link ConfigurationMappingException}.
+     *
+     * @param type class to create an instance of, eg. a record.
+     * @param file {@link File} containing json configuration.
+     * @return {@link CompletableFuture} which completes with a new instance of provided class.
+     * @see #mapInstance(Class, File)
+     */
+    public final <T> @NotNull CompletableFuture<T> mapInstanceAsync(final @NotNull Class<T> type, final @NotNull File file) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        // ...
+        CompletableFuture.supplyAsync(() -> this.mapInstance(type, file), executor).whenComplete((instance, error) -> {
+            if (error == null)
+                result.complete(instance);
+            else result.completeExceptionally((error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error);
+        });
+        return result;
+    }
+
+    /**
+     * Maps file contents to a new instance of provided class and returns {@link ConfigurationReference} holding it.
+     * Each reload of returned reference maps the file to another instance and then replaces the current one at once.
+     *
+     * @param type class to create an instance of, eg. a record.
+     * @param file {@link File} containing json configuration.
+     * @return a new {@link ConfigurationReference} holding instance mapped from the file.
+     * @throws ConfigurationMappingException when configuration fails to load.
+     */
+    public final <T> @NotNull ConfigurationReference<T> reference(final @NotNull Class<T> type, final @NotNull File file) throws ConfigurationMappingException {
+        return new ConfigurationReference<>(this, type, file, this.mapInstance(type, file));
+    }
+
+    /**
+     * Maps only values at provided paths, and values nested inside of them, to {@code public}, {@code static}, {@code non-final} fields declared in relative class.
+     * Fields with paths containing any of provided paths are mapped as well. Requested values are read in a single pass over the file and other fields remain unchanged.
+     * {@link JsonConfiguration#onReload(ChangeSet)} is then called with fields that have changed. Snapshots are not used and {@link MappingListener} is not notified.
+     * When method fails, a new {@link ConfigurationMappingException} is thrown and <b><i>all</i></b> fields remain unchanged.
+     *
+     * @param holder {@link ConfigurationHolder} instance.
+     * @param paths paths to map, in the same format as {@link JsonPath#value()}, eg. {@code messages} or {@code shop.items}.
+     * @return paths of changed fields, in declared order. Empty if no field matches provided paths.
+     * @throws ConfigurationMappingException when configuration fails to load.
+     */
+    public final @NotNull Set<String> map(final @NotNull ConfigurationHolder<? extends JsonConfiguration> holder, final @NotNull Set<String> paths) throws ConfigurationMappingException {
+        var configurationClass = holder.getConfigurationClass();
+        final File configurationFile = holder.getFile();
+        // ...
+        try {
+            final MappingPlan plan = plans.get(configurationClass);
+            final MappingPlan.Selection selection = plan.select(paths);
+            // Skipping the file entirely when there is nothing to map
+            if (selection.getEntries().isEmpty() == true)
+                return Set.of();
+            // Parsing only selected values
+            final FieldData[] container;
+            try (final MappingContext.Scope scope = new MappingContext().enter(); final JsonReader reader = JsonReader.of(Okio.buffer(fileSource.open(configurationFile)))) {
+                container = collect(plan, selection.getEntries(), selection.getIndex(), reader);
+            }
+            // Inserting selected values and calling #onReload; Fingerprint is not updated, because other fields may still be outdated
+            final ChangeSet changes;
+            synchronized (plan) {
+                changes = insert(selection.getEntries(), container);
+                plan.newInstance().onReload(changes);
+            }
             // ...
-            try (final JsonReader reader = JsonReader.of(Okio.buffer(Okio.source(configurationFile)))) {
-                // Parsing values and collecting them to FieldDataContainer
-                final Map<String, FieldData> container = this.collect(configurationClass, reader);
-                // Adding container to the map
-                configurations.put(holder, container);
-            } catch (final IOException | RuntimeException error) {
-                throw new ConfigurationMappingException(configurationClass, configurationFile, error);
+            return changes.getPaths();
+        } catch (final IOException | RuntimeException error) {
+            throw new ConfigurationMappingException(configurationClass, configurationFile, error);
+        }
+    }
+
+    /**
+     * Writes current values of {@code public}, {@code static}, {@code non-final} fields declared in relative class back to the file, at their {@link JsonPath} locations.
+     * File is streamed from the disk to a temporary file, replacing only values which, once decoded by adapters of their fields, differ from current values of these fields.
+     * Everything else, including keys which are not mapped to any field, is copied as it is. Paths which do not exist in the file are added.
+     * Temporary file then atomically replaces the original file. When method fails, a new {@link ConfigurationMappingException} is thrown and file remains unchanged.
+     *
+     * @param holder {@link ConfigurationHolder} instance.
+     * @throws ConfigurationMappingException when configuration fails to save.
+     */
+    public final void save(final @NotNull ConfigurationHolder<? extends JsonConfiguration> holder) throws ConfigurationMappingException {
+        var configurationClass = holder.getConfigurationClass();
+        final File configurationFile = holder.getFile();
+        final Path path = toKey(holder);
+        // ...
+        Path temporary = null;
+        try {
+            final MappingPlan plan = plans.get(configurationClass);
+            // Taking values of all fields before anything is written
+            final Object[] values = new Object[plan.getEntries().size()];
+            for (final MappingPlan.Entry entry : plan.getEntries())
+                values[entry.getOrdinal()] = entry.get();
+            // Writing to a temporary file in the same directory, so it can be atomically moved in place of the original file
+            temporary = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            // Copying permissions of the original file, as temporary files are readable only by their owner
+            final @Nullable PosixFileAttributeView permissions = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+            if (permissions != null)
+                Files.setPosixFilePermissions(temporary, permissions.readAttributes().permissions());
+            // ...
+            try (final JsonReader reader = JsonReader.of(Okio.buffer(Okio.source(path))); final JsonWriter writer = JsonWriter.of(Okio.buffer(Okio.sink(temporary)))) {
+                reader.setLenient(true);
+                writer.setLenient(true);
+                writer.setSerializeNulls(true);
+                writer.setIndent("    ");
+                // Copying the document and replacing values which have changed
+                plan.getIndex().rewrite(reader, writer, new PathIndex.Rewriter<>() {
+                    @Override
+                    public boolean isChanged(final @NotNull MappingPlan.Entry entry, final @NotNull JsonReader copy) throws IOException {
+                        final Object value = values[entry.getOrdinal()];
+                        // Decoding existing value using the adapter, as adapters are not expected to write values back the same way they were written
+                        try (final JsonReader json = copy.peekJson()) {
+                            try {
+                                return Objects.deepEquals(entry.read(copy).getValue(), value) == false;
+                            } catch (final JsonDataException | IllegalArgumentException error) {
+                                // Comparing json values when existing value cannot be decoded
+                                return isEqual(json.readJsonValue(), entry.toJsonValue(value)) == false;
+                            }
+                        }
+                    }
+
+                    @Override
+                    public void write(final @NotNull MappingPlan.Entry entry, final @NotNull JsonWriter output) throws IOException {
+                        entry.write(output, values[entry.getOrdinal()]);
+                    }
+                });
+            }
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            // Remembering fingerprint of the saved file, so it is not mapped again only because it was saved
+            this.applied.get(configurationClass).set(new AppliedFile(path, FileFingerprint.of(configurationFile, null)));
+        } catch (final IOException | RuntimeException error) {
+            // Removing the temporary file, if it still exists
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (final IOException suppressed) {
+                    error.addSuppressed(suppressed);
+                }
             }
+            throw new ConfigurationMappingException(configurationClass, configurationFile, error);
         }
-        // Step 2: Inserting values
-        configurations.forEach((holder, container) -> {
-            var configurationClass = holder.getConfigurationClass();
+    }
+
+    // Inserts collected values and calls #onReload method on each of configuration classes, in declared order. Holders without collected values are skipped.
+    private List<ConfigurationHolder<?>> insert(final @NotNull ConfigurationHolder<?>[] holders, final @NotNull FieldData[][] containers, final @NotNull FileFingerprint[] fingerprints) throws ConfigurationMappingException {
+        final List<ConfigurationHolder<?>> applied = new ArrayList<>(holders.length);
+        final MappingListener listener = this.listener;
+        // ...
+        for (int i = 0; i < holders.length; i++) {
+            // Skipping holders of unchanged files
+            if (containers[i] == null)
+                continue;
+            // ...
+            var configurationClass = holders[i].getConfigurationClass();
             try {
-                insert(configurationClass, container);
-                // Step 3: Calling #onReload method on each of configuration classes
-                createInstance(configurationClass).onReload();
-            } catch (final IllegalAccessException | IllegalArgumentException error) {
-                throw new ConfigurationMappingException(configurationClass, holder.getFile(), error);
+                final MappingPlan plan = plans.get(configurationClass);
+                // Holding the lock of the plan, so values of the same class inserted from other threads, eg. by #mapAsync, never interleave
+                synchronized (plan) {
+                    // Inserting and reloading without measuring anything when there is no listener
+                    if (listener == null) {
+                        plan.newInstance().onReload(insert(plan, containers[i]));
+                    } else {
+                        final long start = System.nanoTime();
+                        final ChangeSet changes = insert(plan, containers[i]);
+                        final long inserted = System.nanoTime();
+                        plan.newInstance().onReload(changes);
+                        final long reloaded = System.nanoTime();
+                        // ...
+                        listener.onInsert(holders[i], inserted - start);
+                        listener.onReload(holders[i], reloaded - inserted);
+                    }
+                    // Remembering fingerprint of the file, so it can be skipped until it changes
+                    this.applied.get(configurationClass).set(new AppliedFile(toKey(holders[i]), fingerprints[i]));
+                }
+                // ...
+                applied.add(holders[i]);
+            } catch (final IllegalArgumentException error) {
+                throw new ConfigurationMappingException(configurationClass, holders[i].getFile(), error);
             }
+        }
+        return applied;
+    }
+
+    // Collects values of all holders. Holders are collected in parallel, but exception is thrown only after all of them have finished.
+    private FieldData[][] collect(final @NotNull ConfigurationHolder<?>[] holders, final @NotNull FileFingerprint[] fingerprints, final boolean force, final @NotNull MappingContext context) throws ConfigurationMappingException {
+        // Collecting on the calling thread when there is nothing to parallelize
+        if (holders.length == 1)
+            return new FieldData[][] { this.collect(holders[0], fingerprints, 0, force, context) };
+        // ...
+        try {
+            return this.collectAsync(holders, fingerprints, force, context).join();
+        } catch (final CompletionException error) {
+            if (error.getCause() instanceof ConfigurationMappingException cause)
+                throw cause;
+            // ...
+            throw error;
+        }
+    }
+
+    // Collects values of all holders in parallel. Returned future completes after all holders have finished, exceptionally with failure of the first failed holder in declared order.
+    private CompletableFuture<FieldData[][]> collectAsync(final @NotNull ConfigurationHolder<?>[] holders, final @NotNull FileFingerprint[] fingerprints, final boolean force, final @NotNull MappingContext context) {
+        // Scheduling collection of each holder
+        final List<CompletableFuture<FieldData[]>> futures = new ArrayList<>(holders.length);
+        for (int i = 0; i < holders.length; i++) {
+            final int index = i;
+            futures.add(CompletableFuture.supplyAsync(() -> this.collect(holders[index], fingerprints, index, force, context), executor));
+        }
+        // Waiting for all holders to finish, then re-throwing exception of the first failed holder or returning collected values
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).handle((ignored, error) -> {
+            final FieldData[][] containers = new FieldData[holders.length][];
+            // ...
+            for (int i = 0; i < holders.length; i++)
+                containers[i] = futures.get(i).join();
+            // ...
+            return containers;
         });
     }
 
-    // Parses and "collects" values defined in configuration class. Fields not annotated with @JsonPath annotation are ignored.
-    private <T extends JsonConfiguration> Map<String, FieldData> collect(final @NotNull Class<T> configurationClass, final @NotNull JsonReader reader) throws IOException, IllegalArgumentException {
-        final Map<String, FieldData> container = new HashMap<>();
-        // For each declared field...
-        for (final Field field : configurationClass.getDeclaredFields()) {
-            // Skipping non-static / non-final fields, fields missing @JsonPath annotation or inaccessible fields
-            if (isStaticNonFinal(field) == false || field.canAccess(null) == false || field.isAnnotationPresent(JsonPath.class) == false)
-                continue;
-            // Getting path passed to the @JsonPath annotation for that field
-            final String path = field.getAnnotation(JsonPath.class).value();
-            // Creating a copy of current reader and placing it at desired path
-            final JsonReader contextReader = atPath(reader.peekJson(), path);
-            // Obtaining correct TypeAdapter<T> based on context
-            final JsonAdapter<?> adapter = (field.getAnnotation(cloud.grabsky.configuration.JsonAdapter.class) != null)
-                    // Creating new instance of TypeAdapter<T> specified using @JsonAdapter
-                    ? createInstance(field.getAnnotation(cloud.grabsky.configuration.JsonAdapter.class).fromJson())
-                    // Getting default adapter for that type otherwise
-                    : moshi.adapter(field.getGenericType());
-            // Reading a value by directly using JsonReader and TypeAdapter<T>
-            final Object o = adapter.nullSafe().lenient().fromJson(contextReader);
-            // Throwing exception if field is NOT marked as @JsonNullable and produced value is null
-            if (o == null && field.getAnnotation(JsonNullable.class) == null) {
-                throw new IllegalArgumentException("Json object at path $." + path + " cannot be null");
+    // Takes fingerprint of the file, then reads the file and collects values of a single holder. Returns null if file has not changed, unless forced.
+    private FieldData[] collect(final @NotNull ConfigurationHolder<?> holder, final @NotNull FileFingerprint[] fingerprints, final int index, final boolean force, final @NotNull MappingContext context) throws ConfigurationMappingException {
+        var configurationClass = holder.getConfigurationClass();
+        final File configurationFile = holder.getFile();
+        final SnapshotStore snapshotStore = this.snapshotStore;
+        // Taking fingerprint before the file is read; File modified in-between is then seen as changed during the next call
+        try {
+            final AtomicReference<AppliedFile> known = this.applied.get(configurationClass);
+            final Path key = toKey(holder);
+            final AppliedFile last = known.get();
+            // Fingerprint of a different file than the one last applied is never compared, as values of that other file are what class currently holds
+            final FileFingerprint previous = (last != null && last.path().equals(key) == true) ? last.fingerprint() : null;
+            // Hashing contents only when they are compared; Forced mapping reads the file anyway, so hash is computed during the next check instead
+            final FileFingerprint current = (force == true && snapshotStore == null) ? FileFingerprint.ofAttributes(configurationFile) : FileFingerprint.of(configurationFile, previous);
+            // ...
+            fingerprints[index] = current;
+            // Skipping unchanged file; Storing the fingerprint so contents are not hashed again
+            if (force == false && current.matches(previous) == true) {
+                if (current != previous)
+                    known.compareAndSet(last, new AppliedFile(key, current));
+                // ...
+                return null;
             }
-            // Creating and adding FieldData to the set
-            container.put(field.getName(), new FieldData(field.getType(), o));
-            // Closing reader...
-            contextReader.close();
+        } catch (final IOException error) {
+            throw new ConfigurationMappingException(configurationClass, configurationFile, error);
+        }
+        final MappingPlan plan;
+        // Compiling the plan, which fails when class cannot be mapped
+        try {
+            plan = plans.get(configurationClass);
+        } catch (final RuntimeException error) {
+            throw new ConfigurationMappingException(configurationClass, configurationFile, error);
+        }
+        // Reading values from the snapshot, if it describes current contents of the file
+        if (snapshotStore != null) {
+            final FieldData[] container = snapshotStore.read(plan, toKey(holder), fingerprints[index]);
+            // ...
+            if (container != null)
+                return container;
+        }
+        final MappingListener listener = this.listener;
+        // Reading without measuring anything when there is no listener
+        if (listener == null) {
+            try (final MappingContext.Scope scope = context.enter(); final JsonReader reader = JsonReader.of(Okio.buffer(fileSource.open(configurationFile)))) {
+                // Parsing values and collecting them to FieldData array
+                final FieldData[] container = collect(plan, reader);
+                // Writing snapshot of collected values, so file does not have to be parsed next time
+                if (snapshotStore != null)
+                    snapshotStore.write(plan, toKey(holder), fingerprints[index], container);
+                // ...
+                return container;
+            } catch (final IOException | RuntimeException error) {
+                throw new ConfigurationMappingException(configurationClass, configurationFile, error);
+            }
+        }
+        // Measuring time spent reading the file separately from the total time
+        final long start = System.nanoTime();
+        try (final MappingContext.Scope scope = context.enter()) {
+            final MeteredSource source = new MeteredSource(fileSource.open(configurationFile));
+            // ...
+            try (final JsonReader reader = JsonReader.of(Okio.buffer(source))) {
+                // Parsing values and collecting them to FieldData array
+                final FieldData[] container = collect(plan, reader, holder, listener);
+                // ...
+                listener.onCollect(holder, source.getBytes(), source.getTime(), System.nanoTime() - start - source.getTime());
+                // Writing snapshot of collected values, so file does not have to be parsed next time
+                if (snapshotStore != null)
+                    snapshotStore.write(plan, toKey(holder), fingerprints[index], container);
+                // ...
+                return container;
+            }
+        } catch (final IOException | RuntimeException error) {
+            throw new ConfigurationMappingException(configurationClass, configurationFile, error);
         }
-        return container;
     }
 
+    // Describes file that was last applied to a configuration class.
+    private record AppliedFile(@NotNull Path path, @NotNull FileFingerprint fingerprint) { /* EMPTY */ }
+
     /* STATIC HELPERS */
 
-    // Updates field values to stored those inside FieldDataContainer. Other fields are ignored.
-    private static <T extends JsonConfiguration> void insert(final @NotNull Class<T> configurationClass, final @NotNull Map<String, FieldData> fields) throws IllegalAccessException, IllegalArgumentException {
-        for (final Field field : configurationClass.getDeclaredFields()) {
-            final String fieldName = field.getName();
-            // Setting values for matching fields
-            if (fields.containsKey(fieldName) == true) {
-                field.set(null, fields.get(fieldName).getValue());
+    // Compares two json values. Numbers are compared by their value, because json does not tell integers and decimals apart.
+    private static boolean isEqual(final @Nullable Object first, final @Nullable Object second) {
+        if (first instanceof Number firstNumber && second instanceof Number secondNumber) {
+            try {
+                return new BigDecimal(firstNumber.toString()).compareTo(new BigDecimal(secondNumber.toString())) == 0;
+            } catch (final NumberFormatException error) {
+                return firstNumber.doubleValue() == secondNumber.doubleValue();
             }
         }
+        if (first instanceof Map<?, ?> firstMap && second instanceof Map<?, ?> secondMap) {
+            if (firstMap.size() != secondMap.size())
+                return false;
+            // ...
+            for (final Map.Entry<?, ?> entry : firstMap.entrySet())
+                if (secondMap.containsKey(entry.getKey()) == false || isEqual(entry.getValue(), secondMap.get(entry.getKey())) == false)
+                    return false;
+            return true;
+        }
+        if (first instanceof List<?> firstList && second instanceof List<?> secondList) {
+            if (firstList.size() != secondList.size())
+                return false;
+            // ...
+            for (int i = 0; i < firstList.size(); i++)
+                if (isEqual(firstList.get(i), secondList.get(i)) == false)
+                    return false;
+            return true;
+        }
+        return Objects.equals(first, second);
+    }
+
+    private static Path toKey(final @NotNull ConfigurationHolder<?> holder) {
+        return holder.getFile().toPath().toAbsolutePath().normalize();
     }
 
-    // TO-DO: Use bitwise operator instead.
-    private static boolean isStaticNonFinal(final @NotNull Field field) {
-        final int modifiers = field.getModifiers();
-        return Modifier.isStatic(modifiers) == true && Modifier.isFinal(modifiers) == false;
+    // Parses and "collects" values defined in the plan. Values are stored at index equal to ordinal of their plan entry.
+    private static FieldData[] collect(final @NotNull MappingPlan plan, final @NotNull JsonReader reader) throws IOException, IllegalArgumentException {
+        return collect(plan, plan.getEntries(), plan.getIndex(), reader);
     }
 
-    // "Puts" JsonReader at a specified path.
-    private static JsonReader atPath(final @NotNull JsonReader reader, final @NotNull String path) throws IOException, IllegalArgumentException {
+    // Parses and "collects" values of provided entries of the plan. Values of other entries are left null.
+    private static FieldData[] collect(final @NotNull MappingPlan plan, final @NotNull List<MappingPlan.Entry> entries, final @NotNull PathIndex<MappingPlan.Entry> index, final @NotNull JsonReader reader) throws IOException, IllegalArgumentException {
+        final FieldData[] container = new FieldData[plan.getEntries().size()];
+        // ...
         reader.setLenient(true);
-        // "Walking" over the JsonReader in search of matching path...
-        while (reader.peek() != Token.END_DOCUMENT) {
-            // Returning JsonReader as soon as both paths are equal
-            if (reader.getPath().equals("$." + path) == true)
-                return reader;
-            // ...
-            switch (reader.peek()) {
-                case NAME -> reader.nextName(); // JsonReader#skipName() makes path full of nulls for some reason.
-                case BEGIN_OBJECT -> reader.beginObject();
-                case END_OBJECT -> reader.endObject();
-                case BEGIN_ARRAY -> reader.beginArray();
-                case END_ARRAY -> reader.endArray();
-                default -> reader.skipValue();
-            }
-        }
+        // Walking the document once and reading each value as soon as reader is placed at its path
+        index.scan(reader, (entry, contextReader) -> container[entry.getOrdinal()] = entry.read(contextReader));
         // ...
-        throw new IllegalArgumentException("Path " + "$." + path + " does not exist");
+        return verify(entries, container);
     }
 
-    // Creates an instance of provided Class<T> or throws IllegalAccessException if failed.
-    private static <T> T createInstance(final @NotNull Class<T> clazz) throws IllegalArgumentException {
-        try {
-            return (clazz.isEnum() == true) ? clazz.getEnumConstants()[0] : clazz.getConstructor().newInstance();
-        } catch (final InstantiationException | InvocationTargetException | NoSuchMethodException | IllegalAccessException error) {
-            throw new IllegalArgumentException("Could not create instance of " + clazz.getName(), error);
+    // Parses and "collects" values defined in the plan, reporting time spent reading each value to provided listener.
+    private static FieldData[] collect(final @NotNull MappingPlan plan, final @NotNull JsonReader reader, final @NotNull ConfigurationHolder<?> holder, final @NotNull MappingListener listener) throws IOException, IllegalArgumentException {
+        final FieldData[] container = new FieldData[plan.getEntries().size()];
+        // ...
+        reader.setLenient(true);
+        // Walking the document once and reading each value as soon as reader is placed at its path
+        plan.getIndex().scan(reader, (entry, contextReader) -> {
+            final long start = System.nanoTime();
+            container[entry.getOrdinal()] = entry.read(contextReader);
+            listener.onField(holder, entry.getPath(), entry.getAdapterName(), System.nanoTime() - start);
+        });
+        // ...
+        return verify(plan.getEntries(), container);
+    }
+
+    // Returns provided container if it contains values of all provided entries.
+    private static FieldData[] verify(final @NotNull List<MappingPlan.Entry> entries, final @NotNull FieldData[] container) throws IllegalArgumentException {
+        // Throwing exception for the first field which path was not found in the document
+        for (final MappingPlan.Entry entry : entries)
+            if (container[entry.getOrdinal()] == null)
+                throw new IllegalArgumentException("Path " + "$." + entry.getPath() + " does not exist");
+        // ...
+        return container;
+    }
+
+    // Updates field values to those stored inside the container. Other fields are ignored.
+    private static ChangeSet insert(final @NotNull MappingPlan plan, final @NotNull FieldData[] container) throws IllegalArgumentException {
+        return insert(plan.getEntries(), container);
+    }
+
+    // Updates values of provided entries to those stored inside the container. Values equal to current values are not set. Returns paths of changed fields.
+    private static ChangeSet insert(final @NotNull List<MappingPlan.Entry> entries, final @NotNull FieldData[] container) throws IllegalArgumentException {
+        final Set<String> changed = new LinkedHashSet<>();
+        // ...
+        for (final MappingPlan.Entry entry : entries) {
+            final FieldData data = container[entry.getOrdinal()];
+            // Skipping values equal to current ones, so their instances are kept as well
+            if (entry.isEqual(data) == true)
+                continue;
+            // ...
+            entry.set(data);
+            changed.add(entry.getPath());
         }
+        return new ChangeSet(Collections.unmodifiableSet(changed));
     }
 
 }
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current instance mapped from a file by {@link ConfigurationMapper#reference(Class, File)}. Reloading maps the file to a new instance
+ * first and then replaces the current one with a single atomic swap, so readers on any thread always see either the old or the new instance, never a mix of both.
+ * Reloads which overlap are published in order they were started in; Instance of a reload which finishes after a newer one is discarded.
+ * Instances are expected to be immutable, eg. records. Multiple references of the same class can be created, eg. one per world or arena.
+ *
+ * @param <T> type of mapped instances.
+ */
+public final class ConfigurationReference<T> {
+
+    private final @NotNull ConfigurationMapper mapper;
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull Class<T> type;
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull File file;
+
+    private final @NotNull AtomicReference<T> current;
+
+    // Number of the last started reload.
+    private final @NotNull AtomicLong sequence = new AtomicLong();
+
+    // Number of the reload which instance is the current one. Guarded by this.
+    private long published = 0L;
+
+    ConfigurationReference(final @NotNull ConfigurationMapper mapper, final @NotNull Class<T> type, final @NotNull File file, final @NotNull T initial) {
+        this.mapper = mapper;
+        this.type = type;
+        this.file = file;
+        this.current = new AtomicReference<>(initial);
+    }
+
+    /**
+     * Returns the current instance. Never blocks.
+     */
+    public @NotNull T get() {
+        return current.get();
+    }
+
+    /**
+     * Maps the file to a new instance and makes it the current one, unless a newer reload has finished in the meantime.
+     * When mapping fails, current instance remains unchanged.
+     *
+     * @return the current instance; The new instance, or instance of a newer reload.
+     * @throws ConfigurationMappingException when configuration fails to load.
+     */
+    public @NotNull T reload() throws ConfigurationMappingException {
+        final long id = sequence.incrementAndGet();
+        // ...
+        return this.publish(id, mapper.mapInstance(type, file));
+    }
+
+    /**
+     * Maps the file to a new instance asynchronously and makes it the current one, unless a newer reload has finished in the meantime.
+     * When mapping fails, returned {@link CompletableFuture} completes exceptionally with {@link ConfigurationMappingException} and current instance remains unchanged.
+     *
+     * @return {@link CompletableFuture} which completes with the current instance (the new one, or instance of a newer reload) once it is published.
+     */
+    public @NotNull CompletableFuture<T> reloadAsync() {
+        final long id = sequence.incrementAndGet();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        // Replacing the current instance only when mapping has succeeded
+        mapper.mapInstanceAsync(type, file).whenComplete((instance, error) -> {
+            if (error == null)
+                result.complete(this.publish(id, instance));
+            else result.completeExceptionally(error);
+        });
+        return result;
+    }
+
+    // Makes provided instance the current one, unless instance of a newer reload has been published already. Returns the current instance.
+    private synchronized @NotNull T publish(final long id, final @NotNull T instance) {
+        if (id > published) {
+            published = id;
+            current.set(instance);
+        }
+        return current.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationReference[" + type.getSimpleName() + ", " + file.getPath() + "]";
+    }
+
+}
@@ -0,0 +1,232 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Watches files of registered {@link ConfigurationHolder} instances and re-maps them as soon as they change.
+ * Bursts of changes are debounced and only holders of changed files are re-mapped, each one separately.
+ * Files which contents have not changed since they were last mapped are skipped.
+ */
+public final class ConfigurationWatcher implements Closeable {
+
+    private final ConfigurationMapper mapper;
+    private final Executor commitExecutor;
+    private final long debounce;
+
+    private final WatchService service;
+
+    // Registered holders, by absolute path of their file.
+    private final Map<Path, List<ConfigurationHolder<?>>> holders = new ConcurrentHashMap<>();
+
+    // Watched directories, by their absolute path.
+    private final Map<Path, WatchKey> directories = new ConcurrentHashMap<>();
+
+    private volatile Consumer<ConfigurationHolder<?>> successHandler = (holder) -> {};
+    private volatile BiConsumer<ConfigurationHolder<?>, Throwable> failureHandler = (holder, error) -> {};
+
+    private Thread thread;
+
+    private ConfigurationWatcher(final @NotNull ConfigurationMapper mapper, final @NotNull Duration debounce, final @NotNull Executor commitExecutor) throws IOException {
+        this.mapper = mapper;
+        this.commitExecutor = commitExecutor;
+        this.debounce = debounce.toNanos();
+        this.service = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Creates {@link ConfigurationWatcher} instance which re-maps changed files using provided {@link ConfigurationMapper}.
+     * Values are inserted directly on the thread of {@link ConfigurationMapper} executor which finished reading the file, so {@link JsonConfiguration#onReload()} may be called from any thread.
+     *
+     * @param mapper {@link ConfigurationMapper} instance.
+     * @param debounce time to wait after the last change, before file is re-mapped.
+     * @return a new instance of {@link ConfigurationWatcher}.
+     * @throws IOException when {@link WatchService} cannot be created.
+     */
+    public static @NotNull ConfigurationWatcher create(final @NotNull ConfigurationMapper mapper, final @NotNull Duration debounce) throws IOException {
+        return new ConfigurationWatcher(mapper, debounce, Runnable::run);
+    }
+
+    /**
+     * Creates {@link ConfigurationWatcher} instance which re-maps changed files using provided {@link ConfigurationMapper}.
+     * Values are inserted using provided {@code commitExecutor}.
+     *
+     * @param mapper {@link ConfigurationMapper} instance.
+     * @param debounce time to wait after the last change, before file is re-mapped.
+     * @param commitExecutor {@link Executor} used to insert values and call {@link JsonConfiguration#onReload()}.
+     * @return a new instance of {@link ConfigurationWatcher}.
+     * @throws IOException when {@link WatchService} cannot be created.
+     * @see ConfigurationMapper#mapAsync(Executor, ConfigurationHolder[])
+     */
+    public static @NotNull ConfigurationWatcher create(final @NotNull ConfigurationMapper mapper, final @NotNull Duration debounce, final @NotNull Executor commitExecutor) throws IOException {
+        return new ConfigurationWatcher(mapper, debounce, commitExecutor);
+    }
+
+    /**
+     * Registers {@link ConfigurationHolder} to be re-mapped when its file changes.
+     *
+     * @param holder {@link ConfigurationHolder} instance.
+     * @return this {@link ConfigurationWatcher} instance.
+     * @throws IOException when directory of the file cannot be watched.
+     */
+    public @NotNull ConfigurationWatcher register(final @NotNull ConfigurationHolder<? extends JsonConfiguration> holder) throws IOException {
+        final Path file = holder.getFile().toPath().toAbsolutePath().normalize();
+        final Path directory = file.getParent();
+        // Watching the directory, unless it is already watched
+        if (directories.containsKey(directory) == false)
+            directories.put(directory, directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+        // ...
+        holders.computeIfAbsent(file, (key) -> new CopyOnWriteArrayList<>()).add(holder);
+        return this;
+    }
+
+    /**
+     * Sets handler called after {@link ConfigurationHolder} is successfully re-mapped.
+     *
+     * @param handler handler to be called.
+     * @return this {@link ConfigurationWatcher} instance.
+     */
+    public @NotNull ConfigurationWatcher onSuccess(final @NotNull Consumer<ConfigurationHolder<?>> handler) {
+        this.successHandler = handler;
+        return this;
+    }
+
+    /**
+     * Sets handler called after {@link ConfigurationHolder} fails to be re-mapped. Cause is usually an instance of {@link ConfigurationMappingException}.
+     *
+     * @param handler handler to be called.
+     * @return this {@link ConfigurationWatcher} instance.
+     */
+    public @NotNull ConfigurationWatcher onFailure(final @NotNull BiConsumer<ConfigurationHolder<?>, Throwable> handler) {
+        this.failureHandler = handler;
+        return this;
+    }
+
+    /**
+     * Starts watching for changes.
+     *
+     * @return this {@link ConfigurationWatcher} instance.
+     * @throws IllegalStateException when watcher is already started.
+     */
+    public synchronized @NotNull ConfigurationWatcher start() throws IllegalStateException {
+        if (thread != null)
+            throw new IllegalStateException("ConfigurationWatcher is already started.");
+        // ...
+        this.thread = Thread.ofPlatform().name("configuration-watcher").daemon(true).start(this::run);
+        return this;
+    }
+
+    /**
+     * Stops watching for changes. Pending changes are discarded.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        service.close();
+        // ...
+        if (thread != null)
+            thread.interrupt();
+    }
+
+    private void run() {
+        final Set<ConfigurationHolder<?>> pending = new LinkedHashSet<>();
+        long deadline = 0L;
+        try {
+            while (true) {
+                // Waiting for changes; Waiting only until the deadline if there are changes waiting to be re-mapped
+                final WatchKey key = (pending.isEmpty() == true)
+                        ? service.take()
+                        : service.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                // Re-mapping holders once there were no more changes during the debounce period
+                if (key == null) {
+                    this.reload(pending);
+                    pending.clear();
+                    continue;
+                }
+                final Path directory = (Path) key.watchable();
+                // Adding holders of changed files to the pending set
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    // Events may be lost when there are too many of them; All files of that directory must be considered changed
+                    final List<ConfigurationHolder<?>> changed = (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                            ? holders.entrySet().stream().filter(entry -> entry.getKey().getParent().equals(directory) == true).flatMap(entry -> entry.getValue().stream()).toList()
+                            : holders.getOrDefault(directory.resolve((Path) event.context()), List.of());
+                    // Delaying the deadline only when change concerns a registered file
+                    if (changed.isEmpty() == false) {
+                        pending.addAll(changed);
+                        deadline = System.nanoTime() + debounce;
+                    }
+                }
+                key.reset();
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ignored) {
+            /* WATCHER HAS BEEN CLOSED */
+        }
+    }
+
+    // Re-maps each of provided holders separately and waits for all of them to finish.
+    private void reload(final @NotNull Set<ConfigurationHolder<?>> pending) throws InterruptedException {
+        final List<CompletableFuture<List<ConfigurationHolder<?>>>> futures = new ArrayList<>(pending.size());
+        // ...
+        for (final ConfigurationHolder<?> holder : pending)
+            futures.add(mapper.mapAsync(commitExecutor, false, holder).whenComplete((applied, error) -> {
+                if (error != null)
+                    failureHandler.accept(holder, error);
+                // Skipping files which contents have not changed, eg. when file was only touched
+                else if (applied.isEmpty() == false)
+                    successHandler.accept(holder);
+            }));
+        // Waiting, so the same file is never re-mapped concurrently
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        } catch (final ExecutionException ignored) {
+            /* FAILURES ARE PASSED TO THE FAILURE HANDLER */
+        }
+    }
+
+}
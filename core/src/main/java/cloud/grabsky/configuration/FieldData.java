@@ -24,18 +24,67 @@
 package cloud.grabsky.configuration;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 @Internal
-@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public final class FieldData {
 
+    // Marks values of primitive fields, which are stored in raw form to avoid boxing.
+    private static final Object RAW = new Object();
+
     @Getter(AccessLevel.PUBLIC)
     private final Class<?> type;
 
-    @Getter(AccessLevel.PUBLIC)
     private final Object value;
 
+    // Raw value of primitive field. Integers and booleans are widened to long and doubles are stored as their raw bits.
+    @Getter(AccessLevel.PACKAGE)
+    private final long bits;
+
+    FieldData(final @NotNull Class<?> type, final @Nullable Object value) {
+        this(type, value, 0L);
+    }
+
+    private FieldData(final @NotNull Class<?> type, final @Nullable Object value, final long bits) {
+        this.type = type;
+        this.value = value;
+        this.bits = bits;
+    }
+
+    static @NotNull FieldData ofInt(final int value) {
+        return new FieldData(int.class, RAW, value);
+    }
+
+    static @NotNull FieldData ofLong(final long value) {
+        return new FieldData(long.class, RAW, value);
+    }
+
+    static @NotNull FieldData ofDouble(final double value) {
+        return new FieldData(double.class, RAW, Double.doubleToRawLongBits(value));
+    }
+
+    static @NotNull FieldData ofBoolean(final boolean value) {
+        return new FieldData(boolean.class, RAW, (value == true) ? 1L : 0L);
+    }
+
+    /**
+     * Returns the value. Values of primitive fields are boxed on each call.
+     */
+    public @Nullable Object getValue() {
+        if (value != RAW)
+            return value;
+        // Boxing raw value of primitive field
+        if (type == int.class)
+            return (int) bits;
+        else if (type == long.class)
+            return bits;
+        else if (type == double.class)
+            return Double.longBitsToDouble(bits);
+        // ...
+        return bits != 0L;
+    }
+
 }
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.zip.CRC32C;
+
+/**
+ * Describes contents of a file at the time it was read, so unchanged files can be detected without parsing them again.
+ */
+@Internal
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class FileFingerprint {
+
+    // Modification times closer than that to the time fingerprint was taken are not trusted, as file could have been modified again within the same tick.
+    private static final long MODIFICATION_TIME_GRANULARITY = 2_000L;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final long size;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final long lastModified;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final int hash;
+
+    // Whether contents have been hashed. Fingerprints taken without hashing match only themselves.
+    private final boolean isHashed;
+
+    // Time this fingerprint was taken at.
+    private final long takenAt;
+
+    /**
+     * Takes fingerprint of provided file. Content hash is computed only if file size or modification time differ from {@code previous} fingerprint.
+     * Contents are read in chunks rather than memory-mapped, so the file is not held open (or mapped) after this method returns.
+     *
+     * @param file {@link File} to take fingerprint of.
+     * @param previous previous fingerprint of the same file, or {@code null}.
+     * @return fingerprint of provided file; {@code previous} fingerprint if file is known to be unchanged.
+     */
+    static @NotNull FileFingerprint of(final @NotNull File file, final @Nullable FileFingerprint previous) throws IOException {
+        final long takenAt = System.currentTimeMillis();
+        final Path path = file.toPath();
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        final long size = attributes.size();
+        final long lastModified = attributes.lastModifiedTime().toMillis();
+        // Skipping the hash when size and modification time are unchanged and modification time can be trusted
+        if (previous != null && previous.size == size && previous.lastModified == lastModified && previous.takenAt - lastModified > MODIFICATION_TIME_GRANULARITY)
+            return previous;
+        // Hashing contents of the file
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final CRC32C crc = new CRC32C();
+            final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            // ...
+            while (channel.read(buffer) != -1) {
+                crc.update(buffer.flip());
+                buffer.clear();
+            }
+            return new FileFingerprint(size, lastModified, (int) crc.getValue(), true, takenAt);
+        }
+    }
+
+    /**
+     * Takes fingerprint of provided file without hashing its contents. Hash is computed later, when fingerprint is passed as {@code previous}
+     * fingerprint to {@link #of(File, FileFingerprint)} and file size or modification time has changed, or modification time cannot be trusted.
+     * Until then, file is considered unchanged only if its size and modification time are unchanged.
+     *
+     * @param file {@link File} to take fingerprint of.
+     * @return fingerprint of provided file.
+     */
+    static @NotNull FileFingerprint ofAttributes(final @NotNull File file) throws IOException {
+        final long takenAt = System.currentTimeMillis();
+        final BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        // ...
+        return new FileFingerprint(attributes.size(), attributes.lastModifiedTime().toMillis(), 0, false, takenAt);
+    }
+
+    /**
+     * Returns {@code true} if contents described by this fingerprint are the same as contents described by {@code other} fingerprint.
+     */
+    boolean matches(final @Nullable FileFingerprint other) {
+        return other != null && (this == other || (isHashed == true && other.isHashed == true && size == other.size && hash == other.hash));
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import okio.Okio;
+import okio.Source;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Defines how configuration files are read by {@link ConfigurationMapper}.
+ */
+public enum FileSource {
+
+    /**
+     * Reads files through a {@link java.io.FileInputStream}. This is the default.
+     */
+    STREAM {
+        @Override
+        @NotNull Source open(final @NotNull File file) throws IOException {
+            return Okio.source(file);
+        }
+    },
+
+    /**
+     * Maps files into memory and reads them straight from the mapped region, without intermediate stream buffers.
+     * Recommended for large files. Mapped region is released by the garbage collector, which on some platforms
+     * prevents the file from being deleted or replaced until then.
+     */
+    MEMORY_MAPPED {
+        @Override
+        @NotNull Source open(final @NotNull File file) throws IOException {
+            return MappedFileSource.open(file);
+        }
+    };
+
+    abstract @NotNull Source open(final @NotNull File file) throws IOException;
+
+}
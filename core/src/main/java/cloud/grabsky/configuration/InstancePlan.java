@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.Moshi;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, pre-compiled information about how to map a document to new instances of a class. Compiled once per class and {@link Moshi} instance.
+ * Records are created using their canonical constructor and all of their components must be annotated with {@link JsonPath}. Instances of other classes
+ * are created using their no-args constructor and then their non-static fields annotated with {@link JsonPath} are set, including {@code final} ones.
+ */
+@Internal
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class InstancePlan<T> {
+
+    @Getter(AccessLevel.PACKAGE)
+    private final @NotNull Class<T> type;
+
+    private final @NotNull List<Entry> entries;
+
+    private final @NotNull PathIndex<Entry> index;
+
+    // Canonical constructor of a record, or no-args constructor of other classes.
+    private final @NotNull MethodHandle constructor;
+
+    private final boolean isRecord;
+
+    /**
+     * Compiles {@link InstancePlan} of provided class. All reflection lookups and adapter resolutions happen here.
+     */
+    public static <T> @NotNull InstancePlan<T> compile(final @NotNull Class<T> type, final @NotNull Moshi moshi) throws IllegalArgumentException {
+        final List<Entry> entries = new ArrayList<>();
+        final PathIndex<Entry> index = new PathIndex<>();
+        // For each field of record component or declared field...
+        for (final Field field : findFields(type)) {
+            // Throwing exception for record components missing @JsonPath annotation, as all of them are needed to create an instance
+            if (type.isRecord() == true && field.isAnnotationPresent(JsonPath.class) == false)
+                throw new IllegalArgumentException("All components of " + type.getName() + " must be annotated with @JsonPath");
+            // Skipping static fields and fields missing @JsonPath annotation
+            if (Modifier.isStatic(field.getModifiers()) == true || field.isAnnotationPresent(JsonPath.class) == false)
+                continue;
+            // Getting path passed to the @JsonPath annotation for that field
+            final String path = field.getAnnotation(JsonPath.class).value();
+            // Creating the entry and adding it to the index
+            final Entry entry = new Entry(entries.size(), field, path, MappingPlan.findAdapter(field, moshi).nullSafe().lenient(), field.isAnnotationPresent(JsonNullable.class), (type.isRecord() == false) ? findSetter(field) : null);
+            // ...
+            entries.add(entry);
+            index.put(path, entry);
+        }
+        return new InstancePlan<>(type, List.copyOf(entries), index, findConstructor(type), type.isRecord());
+    }
+
+    /**
+     * Reads values of all entries from provided {@link JsonReader} in a single pass and returns a new instance containing them.
+     */
+    public @NotNull T read(final @NotNull JsonReader reader) throws IOException, IllegalArgumentException {
+        final Object[] values = new Object[entries.size()];
+        final boolean[] found = new boolean[entries.size()];
+        // ...
+        reader.setLenient(true);
+        // Walking the document once and reading each value as soon as reader is placed at its path
+        index.scan(reader, (entry, contextReader) -> {
+            values[entry.ordinal] = entry.read(contextReader);
+            found[entry.ordinal] = true;
+        });
+        // Throwing exception for the first field which path was not found in the document
+        for (final Entry entry : entries)
+            if (found[entry.ordinal] == false)
+                throw new IllegalArgumentException("Path " + "$." + entry.path + " does not exist");
+        // ...
+        return this.newInstance(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull T newInstance(final @NotNull Object[] values) throws IllegalArgumentException {
+        try {
+            // Passing all values to the canonical constructor of a record
+            if (isRecord == true)
+                return (T) constructor.invokeWithArguments(values);
+            // Setting values of fields otherwise
+            final T instance = (T) constructor.invoke();
+            for (final Entry entry : entries)
+                entry.setter.invoke(instance, values[entry.ordinal]);
+            // ...
+            return instance;
+        } catch (final RuntimeException error) {
+            throw new IllegalArgumentException("Could not create instance of " + type.getName(), error);
+        } catch (final Throwable error) {
+            throw new IllegalStateException(error);
+        }
+    }
+
+    /**
+     * Represents a single field that is mapped from the json document.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Entry {
+
+        // Position of this entry within the plan. Equal to position of the component for records.
+        private final int ordinal;
+
+        private final @NotNull Field field;
+
+        private final @NotNull String path;
+
+        // Null-safe and lenient adapter used to read value of this field.
+        private final @NotNull JsonAdapter<?> adapter;
+
+        private final boolean isNullable;
+
+        // Setter of the field, accepting instance and value. Null for records.
+        private final @Nullable MethodHandle setter;
+
+        private @Nullable Object read(final @NotNull JsonReader reader) throws IOException, IllegalArgumentException {
+            final Object o = adapter.fromJson(reader);
+            // Throwing exception if field is NOT marked as @JsonNullable (or is primitive) and produced value is null
+            if (o == null && (isNullable == false || field.getType().isPrimitive() == true))
+                throw new IllegalArgumentException("Json object at path $." + path + " cannot be null");
+            // ...
+            return o;
+        }
+
+    }
+
+    /* STATIC HELPERS */
+
+    // Returns setter of provided field, which can also be final.
+    private static MethodHandle findSetter(final @NotNull Field field) throws IllegalArgumentException {
+        try {
+            field.setAccessible(true);
+            // ...
+            return MethodHandles.lookup().unreflectSetter(field);
+        } catch (final IllegalAccessException | RuntimeException error) {
+            throw new IllegalArgumentException("Could not access " + field.getName() + " field of " + field.getDeclaringClass().getName(), error);
+        }
+    }
+
+    // Returns fields of record components, in order of components, or all declared fields of other classes.
+    private static Field[] findFields(final @NotNull Class<?> type) throws IllegalArgumentException {
+        if (type.isRecord() == false)
+            return type.getDeclaredFields();
+        // ...
+        final RecordComponent[] components = type.getRecordComponents();
+        final Field[] fields = new Field[components.length];
+        try {
+            for (int i = 0; i < components.length; i++)
+                fields[i] = type.getDeclaredField(components[i].getName());
+        } catch (final NoSuchFieldException error) {
+            throw new IllegalArgumentException("Could not access components of " + type.getName(), error);
+        }
+        return fields;
+    }
+
+    // Returns canonical constructor of a record or no-args constructor of other classes.
+    private static MethodHandle findConstructor(final @NotNull Class<?> type) throws IllegalArgumentException {
+        try {
+            if (type.isRecord() == false) {
+                final Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor);
+            }
+            final RecordComponent[] components = type.getRecordComponents();
+            final Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++)
+                types[i] = components[i].getType();
+            // ...
+            final Constructor<?> constructor = type.getDeclaredConstructor(types);
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (final NoSuchMethodException | IllegalAccessException | RuntimeException error) {
+            throw new IllegalArgumentException("Could not create instance of " + type.getName(), error);
+        }
+    }
+
+}
@@ -23,6 +23,8 @@
  */
 package cloud.grabsky.configuration;
 
+import org.jetbrains.annotations.NotNull;
+
 import java.lang.module.Configuration;
 
 /**
@@ -35,4 +37,14 @@ public interface JsonConfiguration {
      */
     default void onReload() { /* EMPTY IMPLEMENTATION BY DEFAULT */ }
 
+    /**
+     * Called when {@link ConfigurationMapper} finishes inserting field values, with {@link ChangeSet} of fields which values have changed.
+     * Fields mapped to values equal to their current values are not updated. Calls {@link #onReload()} by default.
+     *
+     * @param changes {@link ChangeSet} of changed fields.
+     */
+    default void onReload(final @NotNull ChangeSet changes) {
+        this.onReload();
+    }
+
 }
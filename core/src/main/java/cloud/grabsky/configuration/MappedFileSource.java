@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import okio.Buffer;
+import okio.Source;
+import okio.Timeout;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link Source} reading contents of a memory-mapped file. Bytes are copied from the mapped region directly to segments of the sink.
+ */
+@Internal
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class MappedFileSource implements Source {
+
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Maps provided file into memory. Mapping remains valid after the channel is closed.
+     *
+     * @param file {@link File} to be mapped.
+     * @return a new instance of {@link MappedFileSource}.
+     */
+    static @NotNull MappedFileSource open(final @NotNull File file) throws IOException {
+        try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new MappedFileSource(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Override
+    public long read(final @NotNull Buffer sink, final long byteCount) throws IOException {
+        if (buffer.hasRemaining() == false)
+            return -1L;
+        // Limiting the buffer temporarily instead of slicing it, to not allocate a new view on each read
+        final int count = (int) Math.min(byteCount, buffer.remaining());
+        final int limit = buffer.limit();
+        buffer.limit(buffer.position() + count);
+        sink.write(buffer);
+        buffer.limit(limit);
+        // ...
+        return count;
+    }
+
+    @Override
+    public @NotNull Timeout timeout() {
+        return Timeout.NONE;
+    }
+
+    @Override
+    public void close() {
+        /* MAPPED REGION IS RELEASED BY THE GARBAGE COLLECTOR */
+    }
+
+}
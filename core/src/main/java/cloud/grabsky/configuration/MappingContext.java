@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * State shared by all adapters during a single mapping run, ie. a single call to {@link ConfigurationMapper#map(ConfigurationHolder[])}
+ * or {@link ConfigurationMapper#mapAsync(java.util.concurrent.Executor, ConfigurationHolder[])}. Adapters can use it to share work
+ * between values of all mapped files, eg. to build identical values only once. Context is discarded after the run has finished.
+ * <p>
+ * Files are collected in parallel, so attributes must be safe to use from multiple threads.
+ */
+public final class MappingContext {
+
+    private static final ThreadLocal<MappingContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<Class<?>, Object> attributes = new ConcurrentHashMap<>();
+
+    @Internal
+    MappingContext() { /* PACKAGE-PRIVATE */ }
+
+    /**
+     * Returns context of the mapping run in progress on the current thread, or {@code null} if adapter is used outside of {@link ConfigurationMapper}.
+     */
+    public static @Nullable MappingContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Returns attribute of provided type, creating it using provided factory if it does not exist yet.
+     *
+     * @param type type of the attribute, also used as its key.
+     * @param factory creates a new instance of the attribute.
+     * @return attribute of provided type.
+     */
+    public <T> @NotNull T getAttribute(final @NotNull Class<T> type, final @NotNull Supplier<? extends T> factory) {
+        return type.cast(attributes.computeIfAbsent(type, (ignored) -> factory.get()));
+    }
+
+    /**
+     * Returns attribute of provided type, or {@code null} if it does not exist.
+     */
+    public <T> @Nullable T getAttribute(final @NotNull Class<T> type) {
+        return type.cast(attributes.get(type));
+    }
+
+    // Makes this context current until returned scope is closed. Previous context is restored afterwards.
+    @Internal
+    Scope enter() {
+        final MappingContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null)
+                CURRENT.set(previous);
+            else CURRENT.remove();
+        };
+    }
+
+    @Internal
+    interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+}
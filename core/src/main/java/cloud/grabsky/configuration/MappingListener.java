@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives timings of each mapping step. All methods do nothing by default, so only relevant ones have to be implemented.
+ * Methods called during the collection step may be called concurrently from multiple threads, when multiple holders are mapped at once.
+ * All durations are in nanoseconds.
+ *
+ * @see ConfigurationMapper#setListener(MappingListener)
+ * @see MappingRecorder
+ */
+public interface MappingListener {
+
+    /**
+     * Called after file of provided holder has been read and parsed.
+     *
+     * @param holder {@link ConfigurationHolder} instance.
+     * @param bytes number of bytes read from the file. Reading stops as soon as all fields are found, so it may be less than size of the file.
+     * @param readTime time spent reading the file.
+     * @param parseTime time spent parsing the document, excluding {@code readTime}.
+     */
+    default void onCollect(final @NotNull ConfigurationHolder<?> holder, final long bytes, final long readTime, final long parseTime) { /* EMPTY IMPLEMENTATION BY DEFAULT */ }
+
+    /**
+     * Called after value of a single field has been read.
+     *
+     * @param holder {@link ConfigurationHolder} instance.
+     * @param path path of the field, in the same format as {@link JsonPath#value()}.
+     * @param adapter name of the adapter used to read the value.
+     * @param time time spent reading the value, including time spent reading the file in the meantime.
+     */
+    default void onField(final @NotNull ConfigurationHolder<?> holder, final @NotNull String path, final @NotNull String adapter, final long time) { /* EMPTY IMPLEMENTATION BY DEFAULT */ }
+
+    /**
+     * Called after values of provided holder have been inserted.
+     *
+     * @param holder {@link ConfigurationHolder} instance.
+     * @param time time spent inserting values.
+     */
+    default void onInsert(final @NotNull ConfigurationHolder<?> holder, final long time) { /* EMPTY IMPLEMENTATION BY DEFAULT */ }
+
+    /**
+     * Called after {@link JsonConfiguration#onReload()} of provided holder has finished.
+     *
+     * @param holder {@link ConfigurationHolder} instance.
+     * @param time time spent in {@link JsonConfiguration#onReload()}.
+     */
+    default void onReload(final @NotNull ConfigurationHolder<?> holder, final long time) { /* EMPTY IMPLEMENTATION BY DEFAULT */ }
+
+}
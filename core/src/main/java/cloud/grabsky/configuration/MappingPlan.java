@@ -0,0 +1,413 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import cloud.grabsky.configuration.util.BoundedCache;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable, pre-compiled information about how to map a {@link JsonConfiguration} class. Compiled once per class and {@link Moshi} instance.
+ */
+@Internal
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class MappingPlan {
+
+    // Moshi instance with no user-specified adapters. Used to tell whether adapter of primitive type has been replaced.
+    private static final Moshi STANDARD = new Moshi.Builder().build();
+
+    @Getter(AccessLevel.PACKAGE)
+    private final @NotNull Class<?> configurationClass;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final @NotNull List<Entry> entries;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final @NotNull PathIndex<Entry> index;
+
+    // Either enum constant or public no-args constructor of the configuration class.
+    private final @NotNull Object instance;
+
+    // Selections of entries, by requested paths.
+    private final @NotNull BoundedCache<Set<String>, Selection> selections = new BoundedCache<>(64);
+
+    /**
+     * Compiles {@link MappingPlan} of provided class. All reflection lookups and adapter resolutions happen here.
+     */
+    public static @NotNull MappingPlan compile(final @NotNull Class<?> configurationClass, final @NotNull Moshi moshi) throws IllegalArgumentException {
+        final List<Entry> entries = new ArrayList<>();
+        final PathIndex<Entry> index = new PathIndex<>();
+        // For each declared field...
+        for (final Field field : configurationClass.getDeclaredFields()) {
+            // Skipping non-static / non-final fields, fields missing @JsonPath annotation or inaccessible fields
+            if (isStaticNonFinal(field) == false || field.canAccess(null) == false || field.isAnnotationPresent(JsonPath.class) == false)
+                continue;
+            // Getting path passed to the @JsonPath annotation for that field
+            final String path = field.getAnnotation(JsonPath.class).value();
+            // Obtaining correct TypeAdapter<T> based on context
+            final JsonAdapter<?> adapter = findAdapter(field, moshi);
+            // Primitive fields using standard adapters are read and written without boxing
+            final Kind kind = (field.getType().isPrimitive() == true && adapter.getClass() == STANDARD.adapter(field.getType()).getClass())
+                    ? Kind.of(field.getType())
+                    : Kind.OBJECT;
+            // Creating the entry and adding it to the index
+            final Entry entry = new Entry(entries.size(), field, path, adapter.nullSafe().lenient(), describe(adapter, kind), signature(field, adapter, moshi), field.isAnnotationPresent(JsonNullable.class), kind, findSetter(field, kind), findGetter(field, kind));
+            // ...
+            entries.add(entry);
+            index.put(path, entry);
+        }
+        return new MappingPlan(configurationClass, List.copyOf(entries), index, findInstance(configurationClass));
+    }
+
+    /**
+     * Returns {@link Selection} of entries which are affected by a change of any of provided paths. Entry is affected when its path
+     * is equal to the requested path, is nested inside of it (eg. {@code messages.welcome} for {@code messages}) or contains it
+     * (eg. {@code shop} for {@code shop.items}). Selections are cached, so paths which are requested often are indexed only once.
+     */
+    public @NotNull Selection select(final @NotNull Set<String> requested) {
+        return selections.get(Set.copyOf(requested), (key) -> {
+            final List<Entry> selected = new ArrayList<>();
+            final PathIndex<Entry> selectedIndex = new PathIndex<>();
+            // ...
+            for (final Entry entry : entries) {
+                for (final String path : key) {
+                    if (isRelated(entry.path, path) == true) {
+                        selected.add(entry);
+                        selectedIndex.put(entry.path, entry);
+                        break;
+                    }
+                }
+            }
+            return new Selection(List.copyOf(selected), selectedIndex);
+        });
+    }
+
+    /**
+     * Returns an instance of the configuration class, used to call {@link JsonConfiguration#onReload()} on.
+     */
+    public @NotNull JsonConfiguration newInstance() throws IllegalArgumentException {
+        try {
+            return (JsonConfiguration) ((instance instanceof Constructor<?> constructor) ? constructor.newInstance() : instance);
+        } catch (final InstantiationException | InvocationTargetException | IllegalAccessException error) {
+            throw new IllegalArgumentException("Could not create instance of " + configurationClass.getName(), error);
+        }
+    }
+
+    /**
+     * Subset of entries of the plan, indexed separately so that only their values are read from the document.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Selection {
+
+        private final @NotNull List<Entry> entries;
+
+        private final @NotNull PathIndex<Entry> index;
+
+    }
+
+    /**
+     * Represents a single field that is mapped from the json document.
+     */
+    @Getter(AccessLevel.PACKAGE)
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class Entry {
+
+        // Position of this entry within the plan.
+        private final int ordinal;
+
+        private final @NotNull Field field;
+
+        private final @NotNull String path;
+
+        // Null-safe and lenient adapter used to read value of this field.
+        private final @NotNull JsonAdapter<?> adapter;
+
+        // Name of the adapter, used to tell adapters apart in metrics.
+        private final @NotNull String adapterName;
+
+        // Classes of the adapter and adapters of its elements. Unlike the name, it does not change between runs.
+        private final @NotNull String adapterSignature;
+
+        private final boolean isNullable;
+
+        private final @NotNull Kind kind;
+
+        // Setter of the field, adapted to the exact type used by the kind.
+        private final @NotNull MethodHandle setter;
+
+        // Getter of the field, adapted to the exact type used by the kind.
+        private final @NotNull MethodHandle getter;
+
+        /**
+         * Reads value of this field from provided {@link JsonReader}, which is expected to be placed at path of this field.
+         */
+        public @NotNull FieldData read(final @NotNull JsonReader reader) throws IOException, IllegalArgumentException {
+            // Reading primitives directly, without going through the adapter
+            if (kind != Kind.OBJECT && reader.peek() != JsonReader.Token.NULL) {
+                return switch (kind) {
+                    case INT -> FieldData.ofInt(reader.nextInt());
+                    case LONG -> FieldData.ofLong(reader.nextLong());
+                    case DOUBLE -> FieldData.ofDouble(reader.nextDouble());
+                    default -> FieldData.ofBoolean(reader.nextBoolean());
+                };
+            }
+            // Reading a value by directly using JsonReader and TypeAdapter<T>
+            final Object o = adapter.fromJson(reader);
+            // Throwing exception if field is NOT marked as @JsonNullable (or is primitive) and produced value is null
+            if (o == null && (isNullable == false || field.getType().isPrimitive() == true)) {
+                throw new IllegalArgumentException("Json object at path $." + path + " cannot be null");
+            }
+            return new FieldData(field.getType(), o);
+        }
+
+        /**
+         * Sets value of this field to provided {@link FieldData}.
+         */
+        public void set(final @NotNull FieldData data) throws IllegalArgumentException {
+            try {
+                switch (kind) {
+                    case INT -> setter.invokeExact((int) data.getBits());
+                    case LONG -> setter.invokeExact(data.getBits());
+                    case DOUBLE -> setter.invokeExact(Double.longBitsToDouble(data.getBits()));
+                    case BOOLEAN -> setter.invokeExact(data.getBits() != 0L);
+                    case OBJECT -> setter.invokeExact(data.getValue());
+                }
+            } catch (final RuntimeException error) {
+                throw new IllegalArgumentException("Could not set value of " + field.getName() + " field to " + data.getValue(), error);
+            } catch (final Throwable error) {
+                throw new IllegalStateException(error);
+            }
+        }
+
+        /**
+         * Returns {@code true} if current value of this field is equal to provided {@link FieldData}. Primitives are compared without boxing,
+         * doubles by their raw bits, arrays by their contents and other objects using {@link Object#equals(Object)}.
+         */
+        public boolean isEqual(final @NotNull FieldData data) throws IllegalArgumentException {
+            try {
+                return switch (kind) {
+                    case INT -> (int) getter.invokeExact() == (int) data.getBits();
+                    case LONG -> (long) getter.invokeExact() == data.getBits();
+                    case DOUBLE -> Double.doubleToRawLongBits((double) getter.invokeExact()) == data.getBits();
+                    case BOOLEAN -> (boolean) getter.invokeExact() == (data.getBits() != 0L);
+                    case OBJECT -> Objects.deepEquals((Object) getter.invokeExact(), data.getValue());
+                };
+            } catch (final Throwable error) {
+                throw new IllegalStateException(error);
+            }
+        }
+
+        /**
+         * Returns current value of this field. Values of primitive fields are boxed.
+         */
+        public @Nullable Object get() throws IllegalArgumentException {
+            try {
+                return switch (kind) {
+                    case INT -> (int) getter.invokeExact();
+                    case LONG -> (long) getter.invokeExact();
+                    case DOUBLE -> (double) getter.invokeExact();
+                    case BOOLEAN -> (boolean) getter.invokeExact();
+                    case OBJECT -> (Object) getter.invokeExact();
+                };
+            } catch (final Throwable error) {
+                throw new IllegalStateException(error);
+            }
+        }
+
+        /**
+         * Writes provided value of this field to {@link JsonWriter} using the adapter.
+         */
+        @SuppressWarnings("unchecked")
+        public void write(final @NotNull JsonWriter writer, final @Nullable Object value) throws IOException {
+            ((JsonAdapter<Object>) adapter).toJson(writer, value);
+        }
+
+        /**
+         * Converts provided value of this field to a json value (map, list, string, number, boolean or null) using the adapter.
+         */
+        @SuppressWarnings("unchecked")
+        public @Nullable Object toJsonValue(final @Nullable Object value) {
+            return ((JsonAdapter<Object>) adapter).toJsonValue(value);
+        }
+
+    }
+
+    /**
+     * Tells how value of a field is stored and inserted.
+     */
+    enum Kind {
+        OBJECT, INT, LONG, DOUBLE, BOOLEAN;
+
+        private static @NotNull Kind of(final @NotNull Class<?> type) {
+            if (type == int.class)
+                return INT;
+            else if (type == long.class)
+                return LONG;
+            else if (type == double.class)
+                return DOUBLE;
+            else if (type == boolean.class)
+                return BOOLEAN;
+            // ...
+            return OBJECT;
+        }
+
+    }
+
+    /* STATIC HELPERS */
+
+    // Returns true if first path is equal to, nested inside of or contains the second path.
+    private static boolean isRelated(final @NotNull String first, final @NotNull String second) {
+        return first.equals(second) == true || isNested(first, second) == true || isNested(second, first) == true;
+    }
+
+    // Returns true if path is nested inside of the parent path, eg. "a.b" or "a[0]" inside of "a".
+    private static boolean isNested(final @NotNull String path, final @NotNull String parent) {
+        return path.length() > parent.length() && path.startsWith(parent) == true && (path.charAt(parent.length()) == '.' || path.charAt(parent.length()) == '[');
+    }
+
+    // TO-DO: Use bitwise operator instead.
+    private static boolean isStaticNonFinal(final @NotNull Field field) {
+        final int modifiers = field.getModifiers();
+        return Modifier.isStatic(modifiers) == true && Modifier.isFinal(modifiers) == false;
+    }
+
+    // Returns setter of provided field. Setters of non-primitive kinds accept any Object and are expected to throw ClassCastException on type mismatch.
+    private static MethodHandle findSetter(final @NotNull Field field, final @NotNull Kind kind) throws IllegalArgumentException {
+        try {
+            final MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            // ...
+            return (kind == Kind.OBJECT) ? setter.asType(MethodType.methodType(void.class, Object.class)) : setter;
+        } catch (final IllegalAccessException error) {
+            throw new IllegalArgumentException("Could not access " + field.getName() + " field of " + field.getDeclaringClass().getName(), error);
+        }
+    }
+
+    // Returns getter of provided field. Getters of non-primitive kinds return Object.
+    private static MethodHandle findGetter(final @NotNull Field field, final @NotNull Kind kind) throws IllegalArgumentException {
+        try {
+            final MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            // ...
+            return (kind == Kind.OBJECT) ? getter.asType(MethodType.methodType(Object.class)) : getter;
+        } catch (final IllegalAccessException error) {
+            throw new IllegalArgumentException("Could not access " + field.getName() + " field of " + field.getDeclaringClass().getName(), error);
+        }
+    }
+
+    // Returns classes of adapters used to read value of provided field, including adapters of list and array elements.
+    private static String signature(final @NotNull Field field, final @NotNull JsonAdapter<?> adapter, final @NotNull Moshi moshi) {
+        return (field.getAnnotation(cloud.grabsky.configuration.JsonAdapter.class) != null)
+                ? adapter.getClass().getName()
+                : signature(field.getGenericType(), moshi);
+    }
+
+    // Returns class of the adapter of provided type, followed by signatures of its type arguments or array component.
+    private static String signature(final @NotNull Type type, final @NotNull Moshi moshi) {
+        final StringBuilder builder = new StringBuilder();
+        // Types without an adapter, eg. wildcards, are described by their name
+        try {
+            builder.append(moshi.adapter(type).getClass().getName());
+        } catch (final IllegalArgumentException error) {
+            builder.append(type.getTypeName());
+        }
+        // Describing adapters of elements
+        if (type instanceof ParameterizedType parameterized) {
+            builder.append('<');
+            for (final Type argument : parameterized.getActualTypeArguments())
+                builder.append(signature(argument, moshi)).append(',');
+            builder.append('>');
+        } else if (type instanceof GenericArrayType array) {
+            builder.append('[').append(signature(array.getGenericComponentType(), moshi));
+        } else if (type instanceof Class<?> clazz && clazz.isArray() == true) {
+            builder.append('[').append(signature(clazz.getComponentType(), moshi));
+        }
+        return builder.toString();
+    }
+
+    // Returns name of provided adapter. Class name is used when adapter does not override #toString method.
+    private static String describe(final @NotNull JsonAdapter<?> adapter, final @NotNull Kind kind) {
+        if (kind != Kind.OBJECT)
+            return "direct(" + kind.name().toLowerCase() + ")";
+        // ...
+        final String name = adapter.toString();
+        final Class<?> adapterClass = adapter.getClass();
+        // ...
+        if (name.startsWith(adapterClass.getName() + "@") == true)
+            return (adapterClass.getSimpleName().isEmpty() == false) ? adapterClass.getSimpleName() : adapterClass.getName();
+        // ...
+        return name;
+    }
+
+    // Returns adapter specified using @JsonAdapter annotation, or default adapter for type of provided field.
+    static @NotNull JsonAdapter<?> findAdapter(final @NotNull Field field, final @NotNull Moshi moshi) throws IllegalArgumentException {
+        return (field.getAnnotation(cloud.grabsky.configuration.JsonAdapter.class) != null)
+                // Creating new instance of TypeAdapter<T> specified using @JsonAdapter
+                ? createInstance(field.getAnnotation(cloud.grabsky.configuration.JsonAdapter.class).fromJson())
+                // Getting default adapter for that type otherwise
+                : moshi.adapter(field.getGenericType());
+    }
+
+    // Returns first enum constant or public no-args constructor of provided Class<T>.
+    private static Object findInstance(final @NotNull Class<?> clazz) throws IllegalArgumentException {
+        try {
+            return (clazz.isEnum() == true) ? clazz.getEnumConstants()[0] : clazz.getConstructor();
+        } catch (final NoSuchMethodException error) {
+            throw new IllegalArgumentException("Could not create instance of " + clazz.getName(), error);
+        }
+    }
+
+    // Creates an instance of provided Class<T> or throws IllegalArgumentException if failed.
+    private static <T> T createInstance(final @NotNull Class<T> clazz) throws IllegalArgumentException {
+        try {
+            return (clazz.isEnum() == true) ? clazz.getEnumConstants()[0] : clazz.getConstructor().newInstance();
+        } catch (final InstantiationException | InvocationTargetException | NoSuchMethodException | IllegalAccessException error) {
+            throw new IllegalArgumentException("Could not create instance of " + clazz.getName(), error);
+        }
+    }
+
+}
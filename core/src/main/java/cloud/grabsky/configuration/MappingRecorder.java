@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link MappingListener} which accumulates timings of all mappings and can print them as a summary table.
+ * Timings are accumulated per file, per field and per adapter, until {@link #reset()} is called.
+ */
+public final class MappingRecorder implements MappingListener {
+
+    private final Map<String, FileStats> files = new ConcurrentHashMap<>();
+    private final Map<String, Stats> fields = new ConcurrentHashMap<>();
+    private final Map<String, Stats> adapters = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCollect(final @NotNull ConfigurationHolder<?> holder, final long bytes, final long readTime, final long parseTime) {
+        final FileStats stats = files.computeIfAbsent(nameOf(holder), (key) -> new FileStats());
+        stats.count.increment();
+        stats.bytes.add(bytes);
+        stats.read.add(readTime);
+        stats.parse.add(parseTime);
+    }
+
+    @Override
+    public void onField(final @NotNull ConfigurationHolder<?> holder, final @NotNull String path, final @NotNull String adapter, final long time) {
+        fields.computeIfAbsent(nameOf(holder) + " $." + path, (key) -> new Stats()).record(time);
+        adapters.computeIfAbsent(adapter, (key) -> new Stats()).record(time);
+    }
+
+    @Override
+    public void onInsert(final @NotNull ConfigurationHolder<?> holder, final long time) {
+        files.computeIfAbsent(nameOf(holder), (key) -> new FileStats()).insert.add(time);
+    }
+
+    @Override
+    public void onReload(final @NotNull ConfigurationHolder<?> holder, final long time) {
+        files.computeIfAbsent(nameOf(holder), (key) -> new FileStats()).reload.add(time);
+    }
+
+    /**
+     * Clears all accumulated timings.
+     */
+    public void reset() {
+        files.clear();
+        fields.clear();
+        adapters.clear();
+    }
+
+    /**
+     * Returns summary table of accumulated timings. Fields and adapters are sorted by total time, descending.
+     */
+    public @NotNull String summary() {
+        final StringBuilder builder = new StringBuilder();
+        // Printing timings of each file
+        builder.append(String.format(Locale.ROOT, "%-48s %8s %12s %12s %12s %12s %12s%n", "File", "Count", "Bytes", "Read (ms)", "Parse (ms)", "Insert (ms)", "Reload (ms)"));
+        files.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            final FileStats stats = entry.getValue();
+            builder.append(String.format(Locale.ROOT, "%-48s %8d %12d %12.3f %12.3f %12.3f %12.3f%n",
+                    entry.getKey(), stats.count.sum(), stats.bytes.sum(), millis(stats.read.sum()), millis(stats.parse.sum()), millis(stats.insert.sum()), millis(stats.reload.sum())));
+        });
+        // Printing timings of each field and each adapter
+        this.append(builder.append(System.lineSeparator()), "Field", fields);
+        this.append(builder.append(System.lineSeparator()), "Adapter", adapters);
+        // ...
+        return builder.toString();
+    }
+
+    private void append(final @NotNull StringBuilder builder, final @NotNull String header, final @NotNull Map<String, Stats> map) {
+        builder.append(String.format(Locale.ROOT, "%-48s %8s %12s %12s %12s%n", header, "Count", "Total (ms)", "Avg (µs)", "Max (µs)"));
+        map.entrySet().stream().sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().total.sum()).reversed()).forEach(entry -> {
+            final Stats stats = entry.getValue();
+            final long count = stats.count.sum();
+            final long total = stats.total.sum();
+            builder.append(String.format(Locale.ROOT, "%-48s %8d %12.3f %12.3f %12.3f%n",
+                    entry.getKey(), count, millis(total), (count != 0) ? total / 1_000D / count : 0D, stats.max.get() / 1_000D));
+        });
+    }
+
+    /* STATIC HELPERS */
+
+    private static String nameOf(final @NotNull ConfigurationHolder<?> holder) {
+        return holder.getConfigurationClass().getSimpleName() + " (" + holder.getFile().getName() + ")";
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000D;
+    }
+
+    // Accumulated timings of a single field or adapter.
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        private void record(final long time) {
+            count.increment();
+            total.add(time);
+            max.accumulate(time);
+        }
+
+    }
+
+    // Accumulated timings of a single file.
+    private static final class FileStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder read = new LongAdder();
+        private final LongAdder parse = new LongAdder();
+        private final LongAdder insert = new LongAdder();
+        private final LongAdder reload = new LongAdder();
+
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Source;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * {@link Source} which counts bytes read from the delegate and time spent reading them.
+ */
+@Internal
+final class MeteredSource extends ForwardingSource {
+
+    @Getter(AccessLevel.PACKAGE)
+    private long bytes = 0L;
+
+    @Getter(AccessLevel.PACKAGE)
+    private long time = 0L;
+
+    MeteredSource(final @NotNull Source delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public long read(final @NotNull Buffer sink, final long byteCount) throws IOException {
+        final long start = System.nanoTime();
+        final long read = super.read(sink, byteCount);
+        time += System.nanoTime() - start;
+        // ...
+        if (read > 0)
+            bytes += read;
+        // ...
+        return read;
+    }
+
+}
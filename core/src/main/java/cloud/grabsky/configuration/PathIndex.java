@@ -0,0 +1,350 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Trie of json paths which allows to visit values of all requested paths in a single pass over the document.
+ */
+@Internal
+final class PathIndex<T> {
+
+    private static final Pattern INDEXED_NAME = Pattern.compile("(.*?)((?:\\[\\d+])+)");
+    private static final Pattern INDEX = Pattern.compile("\\[(\\d+)]");
+
+    private final Node<T> root = new Node<>(0);
+
+    private int nodes = 1;
+    private int terminals = 0;
+
+    /**
+     * Adds {@link T} at specified path. Path is expected to be in the same format as {@link JsonPath#value()}.
+     */
+    public void put(final @NotNull String path, final @NotNull T value) {
+        Node<T> node = root;
+        // Walking (and creating) nodes for each segment of the path
+        for (final String part : path.split("\\.", -1)) {
+            final Matcher matcher = INDEXED_NAME.matcher(part);
+            // Plain name segment
+            if (matcher.matches() == false) {
+                node = node.name(part, this);
+                continue;
+            }
+            // Name segment followed by one or more index segments (eg. "array[0][1]")
+            node = node.name(matcher.group(1), this);
+            // ...
+            final Matcher indices = INDEX.matcher(matcher.group(2));
+            while (indices.find() == true)
+                node = node.index(Integer.parseInt(indices.group(1)), this);
+        }
+        // Counting nodes which are expected to be visited
+        if (node.values.isEmpty() == true)
+            terminals++;
+        // ...
+        node.values.add(value);
+    }
+
+    /**
+     * Walks the document once and calls {@link Visitor#visit} for each value at requested path. Values are visited in document order.
+     * Path found multiple times (duplicate keys) is visited only once, at its first occurrence. Walking stops as soon as all paths are visited.
+     */
+    public void scan(final @NotNull JsonReader reader, final @NotNull Visitor<T> visitor) throws IOException {
+        if (terminals == 0)
+            return;
+        // ...
+        this.descend(reader, root, new Scan(new boolean[nodes], terminals), visitor);
+    }
+
+    private void descend(final @NotNull JsonReader reader, final @NotNull Node<T> node, final @NotNull Scan scan, final @NotNull Visitor<T> visitor) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT -> {
+                if (node.names == null) {
+                    reader.skipValue();
+                    return;
+                }
+                reader.beginObject();
+                while (reader.hasNext() == true) {
+                    final Node<T> child = node.names.get(reader.nextName());
+                    // Skipping values which are not part of any path
+                    if (child == null)
+                        reader.skipValue();
+                    else this.visit(reader, child, -1, scan, visitor);
+                    // Leaving as soon as there is nothing more to visit
+                    if (scan.remaining == 0)
+                        return;
+                }
+                reader.endObject();
+            }
+            case BEGIN_ARRAY -> {
+                if (node.indices == null) {
+                    reader.skipValue();
+                    return;
+                }
+                reader.beginArray();
+                for (int i = 0; reader.hasNext() == true; i++) {
+                    final Node<T> child = node.indices.get(i);
+                    // Skipping values which are not part of any path
+                    if (child == null)
+                        reader.skipValue();
+                    else this.visit(reader, child, i, scan, visitor);
+                    // Leaving as soon as there is nothing more to visit
+                    if (scan.remaining == 0)
+                        return;
+                }
+                reader.endArray();
+            }
+            default -> reader.skipValue();
+        }
+    }
+
+    // Visits value of provided node. Index is the position of the value within its array, or -1 if value belongs to an object.
+    private void visit(final @NotNull JsonReader reader, final @NotNull Node<T> node, final int index, final @NotNull Scan scan, final @NotNull Visitor<T> visitor) throws IOException {
+        final boolean hasChildren = (node.names != null || node.indices != null);
+        // Visiting values of this node, unless they were already visited
+        if (node.values.isEmpty() == false && scan.visited[node.id] == false) {
+            scan.visited[node.id] = true;
+            scan.remaining--;
+            // Reading directly from the document when nothing else needs this value
+            if (hasChildren == false && node.values.size() == 1) {
+                final String path = reader.getPath();
+                // ...
+                visitor.visit(node.values.getFirst(), reader);
+                // Failing when visitor has not read exactly one value, as the rest of the document would be read from a wrong position
+                final String expected = (index == -1) ? path : path.substring(0, path.lastIndexOf('[')) + '[' + (index + 1) + ']';
+                if (expected.equals(reader.getPath()) == false)
+                    throw new JsonDataException("Expected value at " + path + " to be read completely, but reader stopped at " + reader.getPath());
+                // ...
+                return;
+            }
+            // Reading from a copy otherwise, because value is needed by more than a single visitor
+            for (final T value : node.values) {
+                try (final JsonReader copy = reader.peekJson()) {
+                    visitor.visit(value, copy);
+                }
+            }
+        }
+        // Descending to child nodes or skipping the value
+        if (hasChildren == true && scan.remaining != 0)
+            this.descend(reader, node, scan, visitor);
+        else reader.skipValue();
+    }
+
+    /**
+     * Copies the document from {@link JsonReader} to {@link JsonWriter}, replacing values at requested paths which are reported as changed by {@link Rewriter}.
+     * Values which are not replaced, including these which are not part of any path, are copied as they are, along with their formatting.
+     * Requested paths which do not exist in the document are added to their parent object, if it exists. Paths which would have to be placed
+     * at an index of an array which does not exist are skipped, as arrays cannot be extended without adding placeholder values.
+     */
+    public void rewrite(final @NotNull JsonReader reader, final @NotNull JsonWriter writer, final @NotNull Rewriter<T> rewriter) throws IOException {
+        this.rewrite(reader, writer, root, new boolean[nodes], rewriter);
+    }
+
+    private void rewrite(final @NotNull JsonReader reader, final @NotNull JsonWriter writer, final @NotNull Node<T> node, final boolean[] visited, final @NotNull Rewriter<T> rewriter) throws IOException {
+        final boolean isFirst = (visited[node.id] == false);
+        // Marking node as present in the document
+        visited[node.id] = true;
+        // Replacing the whole value if any of values at this path has changed; Only the first occurrence of duplicate keys is considered
+        if (node.values.isEmpty() == false && isFirst == true) {
+            for (final T value : node.values) {
+                final boolean isChanged;
+                try (final JsonReader copy = reader.peekJson()) {
+                    isChanged = rewriter.isChanged(value, copy);
+                }
+                if (isChanged == true) {
+                    reader.skipValue();
+                    rewriter.write(value, writer);
+                    return;
+                }
+            }
+        }
+        switch (reader.peek()) {
+            case BEGIN_OBJECT -> {
+                if (node.names == null) {
+                    copy(reader, writer);
+                    return;
+                }
+                reader.beginObject();
+                writer.beginObject();
+                while (reader.hasNext() == true) {
+                    final String name = reader.nextName();
+                    final Node<T> child = node.names.get(name);
+                    // ...
+                    writer.name(name);
+                    // Copying values which are not part of any path
+                    if (child == null)
+                        copy(reader, writer);
+                    else this.rewrite(reader, writer, child, visited, rewriter);
+                }
+                // Adding values which are not present in the document
+                for (final Map.Entry<String, Node<T>> child : node.names.entrySet()) {
+                    if (visited[child.getValue().id] == false && isCreatable(child.getValue()) == true) {
+                        writer.name(child.getKey());
+                        this.create(writer, child.getValue(), visited, rewriter);
+                    }
+                }
+                reader.endObject();
+                writer.endObject();
+            }
+            case BEGIN_ARRAY -> {
+                if (node.indices == null) {
+                    copy(reader, writer);
+                    return;
+                }
+                reader.beginArray();
+                writer.beginArray();
+                for (int i = 0; reader.hasNext() == true; i++) {
+                    final Node<T> child = node.indices.get(i);
+                    // Copying values which are not part of any path
+                    if (child == null)
+                        copy(reader, writer);
+                    else this.rewrite(reader, writer, child, visited, rewriter);
+                }
+                reader.endArray();
+                writer.endArray();
+            }
+            default -> copy(reader, writer);
+        }
+    }
+
+    // Writes value of a path which does not exist in the document. Expects the node to be creatable; Children which are not are skipped.
+    private void create(final @NotNull JsonWriter writer, final @NotNull Node<T> node, final boolean[] visited, final @NotNull Rewriter<T> rewriter) throws IOException {
+        visited[node.id] = true;
+        // ...
+        if (node.values.isEmpty() == false) {
+            rewriter.write(node.values.getFirst(), writer);
+            return;
+        }
+        writer.beginObject();
+        for (final Map.Entry<String, Node<T>> child : node.names.entrySet()) {
+            if (isCreatable(child.getValue()) == false)
+                continue;
+            // ...
+            writer.name(child.getKey());
+            this.create(writer, child.getValue(), visited, rewriter);
+        }
+        writer.endObject();
+    }
+
+    // Returns true if node has a value or leads to a value through object keys only. Array indices cannot be created.
+    private static boolean isCreatable(final @NotNull Node<?> node) {
+        if (node.values.isEmpty() == false)
+            return true;
+        // ...
+        if (node.names == null)
+            return false;
+        // ...
+        for (final Node<?> child : node.names.values())
+            if (isCreatable(child) == true)
+                return true;
+        // ...
+        return false;
+    }
+
+    // Copies the next value as it is, including formatting and comments inside of it.
+    private static void copy(final @NotNull JsonReader reader, final @NotNull JsonWriter writer) throws IOException {
+        try (final BufferedSource source = reader.nextSource(); final BufferedSink sink = writer.valueSink()) {
+            sink.writeAll(source);
+        }
+    }
+
+    /**
+     * Decides whether value at requested path has changed and writes its new value.
+     */
+    public interface Rewriter<T> {
+
+        /**
+         * Returns {@code true} if value which provided {@link JsonReader} is placed at should be replaced. Provided reader is a copy and does not have to be consumed.
+         */
+        boolean isChanged(final @NotNull T value, final @NotNull JsonReader reader) throws IOException;
+
+        /**
+         * Writes new value.
+         */
+        void write(final @NotNull T value, final @NotNull JsonWriter writer) throws IOException;
+
+    }
+
+    /**
+     * Called for each value found at requested path. Provided {@link JsonReader} is placed at the value and is expected to consume it entirely.
+     */
+    @FunctionalInterface
+    public interface Visitor<T> {
+        void visit(final @NotNull T value, final @NotNull JsonReader reader) throws IOException;
+    }
+
+    private static final class Node<T> {
+
+        private final int id;
+        private final List<T> values = new ArrayList<>(1);
+
+        private Map<String, Node<T>> names;
+        private Map<Integer, Node<T>> indices;
+
+        private Node(final int id) {
+            this.id = id;
+        }
+
+        private Node<T> name(final @NotNull String name, final @NotNull PathIndex<T> index) {
+            if (names == null)
+                names = new HashMap<>();
+            return names.computeIfAbsent(name, (key) -> new Node<>(index.nodes++));
+        }
+
+        private Node<T> index(final int i, final @NotNull PathIndex<T> index) {
+            if (indices == null)
+                indices = new HashMap<>();
+            return indices.computeIfAbsent(i, (key) -> new Node<>(index.nodes++));
+        }
+
+    }
+
+    // State of a single scan. Kept separately, so the same index can be scanned multiple times.
+    private static final class Scan {
+
+        private final boolean[] visited;
+        private int remaining;
+
+        private Scan(final boolean[] visited, final int remaining) {
+            this.visited = visited;
+            this.remaining = remaining;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes and reads values of a single type to and from snapshots created by {@link SnapshotStore}. Value read from the snapshot
+ * is inserted instead of the value which would be read from the file, so it should be equal to it.
+ *
+ * @param <T> type of values, which must be equal to the type of a field.
+ */
+public interface SnapshotCodec<T> {
+
+    /**
+     * Returns type of values written by this codec.
+     */
+    @NotNull Class<T> getType();
+
+    /**
+     * Writes provided value to the snapshot.
+     */
+    void write(final @NotNull DataOutput out, final @NotNull T value) throws IOException;
+
+    /**
+     * Reads value from the snapshot.
+     */
+    @NotNull T read(final @NotNull DataInput in) throws IOException;
+
+    /* STATIC HELPERS */
+
+    /**
+     * Writes provided {@link String} as length-prefixed UTF-8 bytes. Unlike {@link DataOutput#writeUTF(String)}, length of the string is not limited.
+     */
+    static void writeString(final @NotNull DataOutput out, final @NotNull String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads {@link String} written using {@link #writeString(DataOutput, String)}.
+     */
+    static @NotNull String readString(final @NotNull DataInput in) throws IOException {
+        final int length = in.readInt();
+        // Throwing exception on negative length, which can be found only in corrupted snapshots
+        if (length < 0)
+            throw new IOException("Invalid length: " + length);
+        // ...
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,470 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32C;
+
+/**
+ * Stores binary snapshots of values collected from configuration files, so they can be inserted without parsing the files again.
+ * Snapshot is used only when contents of the file and the way its class is mapped are the same as when the snapshot was written,
+ * otherwise the file is parsed and the snapshot is written again. Corrupted snapshots are ignored the same way.
+ * <p>
+ * Values of primitive, boxed primitive, {@link String}, {@link UUID} and enum types are supported by default, as well as arrays
+ * and {@link List Lists} of supported types. Other types require a {@link SnapshotCodec}. Classes with fields of unsupported types are never snapshotted.
+ *
+ * @see ConfigurationMapper#setSnapshotStore(SnapshotStore)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SnapshotStore {
+
+    // Identifies snapshot files; "GCFS" in ASCII.
+    private static final int MAGIC = 0x47434653;
+
+    // Version of the format. Snapshots of other versions are ignored.
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String EXTENSION = ".snapshot";
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull Path directory;
+
+    private final @NotNull List<SnapshotCodec<?>> codecs;
+
+    // Layout last computed for each configuration class, along with the plan it was computed for. ClassValue does not prevent classes from being unloaded.
+    private final ClassValue<AtomicReference<CachedLayout>> layouts = new ClassValue<>() {
+        @Override
+        protected AtomicReference<CachedLayout> computeValue(final @NotNull Class<?> configurationClass) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * Creates {@link SnapshotStore} which stores snapshots in provided directory.
+     *
+     * @param directory directory to store snapshots in. Created when first snapshot is written.
+     * @param codecs codecs of types which are not supported by default.
+     * @return a new instance of {@link SnapshotStore}.
+     */
+    public static @NotNull SnapshotStore create(final @NotNull Path directory, final @NotNull SnapshotCodec<?>... codecs) {
+        return new SnapshotStore(directory, List.of(codecs));
+    }
+
+    /**
+     * Deletes all snapshots stored in the directory.
+     */
+    public void invalidate() throws IOException {
+        if (Files.isDirectory(directory) == false)
+            return;
+        // ...
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (final Path file : files)
+                Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Reads snapshot of values of provided holder. Returns {@code null} if there is no snapshot, or it cannot be used.
+     */
+    @Internal
+    @Nullable FieldData[] read(final @NotNull MappingPlan plan, final @NotNull Path source, final @NotNull FileFingerprint fingerprint) {
+        final @Nullable Layout layout = this.layout(plan);
+        // Skipping classes with fields of unsupported types
+        if (layout == null)
+            return null;
+        // ...
+        try {
+            final byte[] bytes = Files.readAllBytes(this.toFile(plan, source));
+            // Verifying checksum of the snapshot, stored at the end of it
+            if (bytes.length < Integer.BYTES || checksum(bytes, bytes.length - Integer.BYTES) != readInt(bytes, bytes.length - Integer.BYTES))
+                return null;
+            // ...
+            final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - Integer.BYTES));
+            // Verifying that snapshot describes the same contents of the same file, mapped the same way
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || in.readInt() != layout.signature)
+                return null;
+            if (SnapshotCodec.readString(in).equals(source.toString()) == false || in.readLong() != fingerprint.getSize() || in.readInt() != fingerprint.getHash())
+                return null;
+            // Reading values of all fields
+            final FieldData[] container = new FieldData[layout.codecs.length];
+            for (final MappingPlan.Entry entry : plan.getEntries())
+                container[entry.getOrdinal()] = read(in, entry, layout.codecs[entry.getOrdinal()]);
+            // ...
+            return container;
+        } catch (final NoSuchFileException error) {
+            return null;
+        } catch (final IOException | RuntimeException error) {
+            // Snapshot is corrupted or not readable by current codecs; File will be parsed and snapshot written again
+            return null;
+        }
+    }
+
+    /**
+     * Writes snapshot of values of provided holder, replacing existing one. Failure to write the snapshot is not reported, as it only means the file will be parsed next time.
+     */
+    @Internal
+    void write(final @NotNull MappingPlan plan, final @NotNull Path source, final @NotNull FileFingerprint fingerprint, final @NotNull FieldData[] container) {
+        final @Nullable Layout layout = this.layout(plan);
+        // Skipping classes with fields of unsupported types
+        if (layout == null)
+            return;
+        // ...
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            // Writing the header
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(layout.signature);
+            SnapshotCodec.writeString(out, source.toString());
+            out.writeLong(fingerprint.getSize());
+            out.writeInt(fingerprint.getHash());
+            // Writing values of all fields
+            for (final MappingPlan.Entry entry : plan.getEntries())
+                write(out, entry, layout.codecs[entry.getOrdinal()], container[entry.getOrdinal()]);
+            // Writing checksum of everything above
+            out.writeInt(checksum(bytes.toByteArray(), bytes.size()));
+            // Writing to temporary file first, so snapshot is never read partially written
+            final Path file = this.toFile(plan, source);
+            Files.createDirectories(directory);
+            final Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temporary, bytes.toByteArray());
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (final IOException | RuntimeException error) {
+            // Snapshot is only an optimization; File will be parsed again next time
+        }
+    }
+
+    // Returns snapshot file of provided class and source file.
+    private @NotNull Path toFile(final @NotNull MappingPlan plan, final @NotNull Path source) {
+        final byte[] bytes = source.toString().getBytes(StandardCharsets.UTF_8);
+        return directory.resolve(plan.getConfigurationClass().getName() + "-" + Integer.toHexString(checksum(bytes, bytes.length)) + EXTENSION);
+    }
+
+    // Returns codecs of all fields in the plan, or null if any of them has unsupported type. Computed once per plan, as plans are immutable.
+    private @Nullable Layout layout(final @NotNull MappingPlan plan) {
+        final AtomicReference<CachedLayout> reference = layouts.get(plan.getConfigurationClass());
+        final @Nullable CachedLayout cached = reference.get();
+        // Returning cached layout, unless it was computed for a plan of another mapper
+        if (cached != null && cached.plan() == plan)
+            return cached.layout();
+        // ...
+        final @Nullable Layout layout = this.computeLayout(plan);
+        reference.set(new CachedLayout(plan, layout));
+        return layout;
+    }
+
+    // Computes codecs of all fields in the plan. Returns null if any of them has unsupported type.
+    private @Nullable Layout computeLayout(final @NotNull MappingPlan plan) {
+        final SnapshotCodec<?>[] codecs = new SnapshotCodec<?>[plan.getEntries().size()];
+        final StringBuilder signature = new StringBuilder(plan.getConfigurationClass().getName());
+        // ...
+        for (final MappingPlan.Entry entry : plan.getEntries()) {
+            // Primitive fields are stored in raw form and do not need a codec
+            if (entry.getKind() == MappingPlan.Kind.OBJECT) {
+                final @Nullable SnapshotCodec<?> codec = this.find(entry.getField().getGenericType());
+                // ...
+                if (codec == null)
+                    return null;
+                // ...
+                codecs[entry.getOrdinal()] = codec;
+            }
+            // Describing everything that affects values of the field
+            signature.append(';').append(entry.getField().getName())
+                    .append(':').append(entry.getField().getGenericType().getTypeName())
+                    .append('@').append(entry.getPath())
+                    .append('/').append(entry.getAdapterSignature())
+                    .append('/').append(entry.isNullable())
+                    .append('/').append(entry.getKind());
+            // ...
+            if (codecs[entry.getOrdinal()] != null)
+                signature.append('/').append(describe(codecs[entry.getOrdinal()]));
+        }
+        final byte[] bytes = signature.toString().getBytes(StandardCharsets.UTF_8);
+        // ...
+        return new Layout(codecs, checksum(bytes, bytes.length));
+    }
+
+    // Finds codec of provided type. Returns null if type is not supported.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private @Nullable SnapshotCodec<?> find(final @NotNull Type type) {
+        // Classes, including arrays
+        if (type instanceof Class<?> clazz)
+            return this.find(clazz);
+        // Lists of supported types
+        if (type instanceof ParameterizedType parameterized) {
+            if (parameterized.getRawType() != List.class)
+                return null;
+            // ...
+            final @Nullable SnapshotCodec<?> element = this.find(parameterized.getActualTypeArguments()[0]);
+            return (element != null) ? new ListCodec(element) : null;
+        }
+        // Other generic types are not supported
+        return null;
+    }
+
+    // Finds codec of provided class. Returns null if class is not supported.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private @Nullable SnapshotCodec<?> find(final @NotNull Class<?> clazz) {
+        // Primitive fields using custom adapters are written the same way as their wrappers
+        if (clazz.isPrimitive() == true)
+            return this.find(MethodType.methodType(clazz).wrap().returnType());
+        // Codecs specified by the user take precedence over built-in ones
+        for (final SnapshotCodec<?> codec : codecs)
+            if (codec.getType() == clazz)
+                return codec;
+        // Arrays of supported types
+        if (clazz.isArray() == true) {
+            final @Nullable SnapshotCodec<?> component = (clazz.getComponentType().isPrimitive() == true) ? null : this.find(clazz.getComponentType());
+            return (component != null) ? new ArrayCodec(clazz, component) : null;
+        }
+        // Enums
+        if (clazz.isEnum() == true)
+            return new EnumCodec(clazz);
+        // ...
+        for (final SnapshotCodec<?> codec : BUILT_IN)
+            if (codec.getType() == clazz)
+                return codec;
+        // ...
+        return null;
+    }
+
+    /* STATIC HELPERS */
+
+    private static @NotNull FieldData read(final @NotNull DataInput in, final @NotNull MappingPlan.Entry entry, final @Nullable SnapshotCodec<?> codec) throws IOException {
+        return switch (entry.getKind()) {
+            case INT -> FieldData.ofInt(in.readInt());
+            case LONG -> FieldData.ofLong(in.readLong());
+            case DOUBLE -> FieldData.ofDouble(in.readDouble());
+            case BOOLEAN -> FieldData.ofBoolean(in.readBoolean());
+            case OBJECT -> new FieldData(entry.getField().getType(), (in.readBoolean() == true) ? codec.read(in) : null);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void write(final @NotNull DataOutput out, final @NotNull MappingPlan.Entry entry, final @Nullable SnapshotCodec<?> codec, final @NotNull FieldData data) throws IOException {
+        switch (entry.getKind()) {
+            case INT -> out.writeInt((int) data.getBits());
+            case LONG -> out.writeLong(data.getBits());
+            case DOUBLE -> out.writeDouble(Double.longBitsToDouble(data.getBits()));
+            case BOOLEAN -> out.writeBoolean(data.getBits() != 0L);
+            case OBJECT -> {
+                final @Nullable Object value = data.getValue();
+                // Writing presence of the value first, as fields marked with @JsonNullable can be null
+                out.writeBoolean(value != null);
+                // ...
+                if (value != null)
+                    ((SnapshotCodec<Object>) codec).write(out, value);
+            }
+        }
+    }
+
+    // Returns name of the codec. Nested codecs are described along with codecs of their elements.
+    private static @NotNull String describe(final @NotNull SnapshotCodec<?> codec) {
+        return switch (codec) {
+            case ListCodec<?> list -> "list(" + describe(list.element) + ")";
+            case ArrayCodec<?> array -> "array(" + describe(array.component) + ")";
+            default -> codec.getClass().getName() + "(" + codec.getType().getName() + ")";
+        };
+    }
+
+    private static int checksum(final byte[] bytes, final int length) {
+        final CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static int readInt(final byte[] bytes, final int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16) | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+
+    // Codecs of each field in the plan, by ordinal of the entry, and signature describing how fields are mapped.
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Layout {
+
+        // Codecs of non-primitive fields. Null for primitive fields.
+        private final @Nullable SnapshotCodec<?> @NotNull [] codecs;
+
+        private final int signature;
+
+    }
+
+    // Describes layout computed for a plan. Layout is null when plan has fields of unsupported types.
+    private record CachedLayout(@NotNull MappingPlan plan, @Nullable Layout layout) { /* EMPTY */ }
+
+    /* BUILT-IN CODECS */
+
+    private static final List<SnapshotCodec<?>> BUILT_IN = List.of(
+            new BuiltInCodec<>(String.class, SnapshotCodec::writeString, SnapshotCodec::readString),
+            new BuiltInCodec<>(Integer.class, DataOutput::writeInt, DataInput::readInt),
+            new BuiltInCodec<>(Long.class, DataOutput::writeLong, DataInput::readLong),
+            new BuiltInCodec<>(Double.class, DataOutput::writeDouble, DataInput::readDouble),
+            new BuiltInCodec<>(Float.class, DataOutput::writeFloat, DataInput::readFloat),
+            new BuiltInCodec<>(Boolean.class, DataOutput::writeBoolean, DataInput::readBoolean),
+            new BuiltInCodec<>(Short.class, DataOutput::writeShort, DataInput::readShort),
+            new BuiltInCodec<>(Byte.class, DataOutput::writeByte, DataInput::readByte),
+            new BuiltInCodec<>(Character.class, DataOutput::writeChar, DataInput::readChar),
+            new BuiltInCodec<>(UUID.class, (out, value) -> {
+                out.writeLong(value.getMostSignificantBits());
+                out.writeLong(value.getLeastSignificantBits());
+            }, (in) -> new UUID(in.readLong(), in.readLong()))
+    );
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class BuiltInCodec<T> implements SnapshotCodec<T> {
+
+        @Getter(AccessLevel.PUBLIC)
+        private final @NotNull Class<T> type;
+
+        private final @NotNull Writer<T> writer;
+
+        private final @NotNull Reader<T> reader;
+
+        @Override
+        public void write(final @NotNull DataOutput out, final @NotNull T value) throws IOException {
+            writer.write(out, value);
+        }
+
+        @Override
+        public @NotNull T read(final @NotNull DataInput in) throws IOException {
+            return reader.read(in);
+        }
+
+        private interface Writer<T> {
+            void write(final @NotNull DataOutput out, final @NotNull T value) throws IOException;
+        }
+
+        private interface Reader<T> {
+            @NotNull T read(final @NotNull DataInput in) throws IOException;
+        }
+
+    }
+
+    // Writes enum constants by their names.
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class EnumCodec<E extends Enum<E>> implements SnapshotCodec<E> {
+
+        @Getter(AccessLevel.PUBLIC)
+        private final @NotNull Class<E> type;
+
+        @Override
+        public void write(final @NotNull DataOutput out, final @NotNull E value) throws IOException {
+            SnapshotCodec.writeString(out, value.name());
+        }
+
+        @Override
+        public @NotNull E read(final @NotNull DataInput in) throws IOException {
+            return Enum.valueOf(type, SnapshotCodec.readString(in));
+        }
+
+    }
+
+    // Writes lists, element by element. Elements cannot be null.
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ListCodec<T> implements SnapshotCodec<List<T>> {
+
+        private final @NotNull SnapshotCodec<T> element;
+
+        @Override @SuppressWarnings({"unchecked", "rawtypes"})
+        public @NotNull Class<List<T>> getType() {
+            return (Class) List.class;
+        }
+
+        @Override
+        public void write(final @NotNull DataOutput out, final @NotNull List<T> value) throws IOException {
+            out.writeInt(value.size());
+            for (final T item : value)
+                element.write(out, item);
+        }
+
+        @Override
+        public @NotNull List<T> read(final @NotNull DataInput in) throws IOException {
+            final int size = in.readInt();
+            final List<T> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++)
+                list.add(element.read(in));
+            return list;
+        }
+
+    }
+
+    // Writes arrays of non-primitive types, element by element. Elements cannot be null.
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class ArrayCodec<T> implements SnapshotCodec<T[]> {
+
+        @Getter(AccessLevel.PUBLIC)
+        private final @NotNull Class<T[]> type;
+
+        private final @NotNull SnapshotCodec<T> component;
+
+        @Override
+        public void write(final @NotNull DataOutput out, final @NotNull T[] value) throws IOException {
+            out.writeInt(value.length);
+            for (final T item : value)
+                component.write(out, item);
+        }
+
+        @Override @SuppressWarnings("unchecked")
+        public @NotNull T[] read(final @NotNull DataInput in) throws IOException {
+            final int length = in.readInt();
+            final T[] array = (T[]) Array.newInstance(type.getComponentType(), length);
+            for (int i = 0; i < length; i++)
+                array[i] = component.read(in);
+            return array;
+        }
+
+    }
+
+}
@@ -29,15 +29,19 @@ import com.squareup.moshi.JsonReader;
 import com.squareup.moshi.JsonWriter;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Converts {@link String} to {@link T} using case-insensitive strategy.
+ * Converts {@link String} to {@link T} using case-insensitive (default) or case-sensitive strategy. Exact match is always preferred.
+ * Case-sensitive adapters still accept names which differ only in case, unless they are also strict.
+ * Lookup tables are built once, when adapter is created, so lookups do not allocate.
  */
-@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
 public abstract class AbstractEnumJsonAdapter<T extends Enum<T>> extends JsonAdapter<T> {
 
     @Getter(AccessLevel.PUBLIC)
@@ -46,25 +50,95 @@ public abstract class AbstractEnumJsonAdapter<T extends Enum<T>> extends JsonAda
     @Getter(AccessLevel.PUBLIC)
     protected final boolean isCaseSensitive;
 
+    // Whether case-sensitive adapter should reject names which differ only in case. Has no effect on case-insensitive adapters.
+    @Getter(AccessLevel.PUBLIC)
+    protected final boolean isStrict;
+
+    // Constants by their exact name.
+    private final Map<String, T> constants;
+
+    // Open-addressing table of constants, indexed by case-folded hash of their name. Null for strict case-sensitive adapters.
+    private final T[] folded;
+
+    public AbstractEnumJsonAdapter(final @NotNull Class<T> type, final boolean isCaseSensitive) {
+        this(type, isCaseSensitive, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    public AbstractEnumJsonAdapter(final @NotNull Class<T> type, final boolean isCaseSensitive, final boolean isStrict) {
+        this.type = type;
+        this.isCaseSensitive = isCaseSensitive;
+        this.isStrict = isStrict;
+        // ...
+        final T[] values = type.getEnumConstants();
+        // Creating map of exact names
+        this.constants = new HashMap<>(values.length * 2);
+        for (final T en : values)
+            constants.put(en.name(), en);
+        // Creating case-folded table, at least twice as big as number of constants; Collisions are resolved with linear probing
+        if (isCaseSensitive == true && isStrict == true) {
+            this.folded = null;
+            return;
+        }
+        this.folded = (T[]) Array.newInstance(type, Integer.highestOneBit(Math.max(1, values.length) * 2 - 1) << 1);
+        for (final T en : values) {
+            int i = foldedHash(en.name()) & (folded.length - 1);
+            // Skipping occupied slots, including those occupied by constants which names differ only in case; First declared constant wins
+            while (folded[i] != null) {
+                if (folded[i].name().equalsIgnoreCase(en.name()) == true)
+                    break;
+                i = (i + 1) & (folded.length - 1);
+            }
+            if (folded[i] == null)
+                folded[i] = en;
+        }
+    }
+
     @Override
     public T fromJson(final @NotNull JsonReader in) throws IOException {
         final String value = in.nextString();
-        // Iterating over enum constants for that (enum) type
-        for (final T en : type.getEnumConstants()) {
-            // Matching... (case sensitive)
-            if (isCaseSensitive == true && en.name().equals(value) == true)
-                return en;
-            // Matching... (case insensitive; default)
-            else if (en.name().equalsIgnoreCase(value) == true)
-                return en;
+        // Matching... (exact)
+        final T en = constants.get(value);
+        if (en != null)
+            return en;
+        // Matching... (case insensitive; skipped by strict case-sensitive adapters)
+        if (folded != null) {
+            final T foldedEn = this.lookupFolded(value);
+            if (foldedEn != null)
+                return foldedEn;
         }
         // ...
         throw new JsonDataException("Expected " + type.getName() + " at " + in.getPath() + " but found: " + value);
     }
 
     @Override
-    public void toJson(final @NotNull JsonWriter out, final T value) {
-        throw new UnsupportedOperationException("NOT IMPLEMENTED");
+    public void toJson(final @NotNull JsonWriter out, final @Nullable T value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        // ...
+        out.value(value.name());
+    }
+
+    private @Nullable T lookupFolded(final @NotNull String value) {
+        int i = foldedHash(value) & (folded.length - 1);
+        // Probing until an empty slot is found; Table is never full, so this always terminates
+        while (folded[i] != null) {
+            if (folded[i].name().equalsIgnoreCase(value) == true)
+                return folded[i];
+            i = (i + 1) & (folded.length - 1);
+        }
+        return null;
+    }
+
+    // Computes hash of provided string, which is the same for all strings considered equal by String#equalsIgnoreCase.
+    private static int foldedHash(final @NotNull String value) {
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++)
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+        // Spreading higher bits, as table is indexed by lower bits only
+        return hash ^ (hash >>> 16);
     }
 
 }
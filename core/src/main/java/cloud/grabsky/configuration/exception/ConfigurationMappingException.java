@@ -23,8 +23,6 @@
  */
 package cloud.grabsky.configuration.exception;
 
-import cloud.grabsky.configuration.JsonConfiguration;
-
 import java.io.File;
 
 import org.jetbrains.annotations.NotNull;
@@ -36,7 +34,7 @@ import org.jetbrains.annotations.NotNull;
  */
 public class ConfigurationMappingException extends RuntimeException {
 
-    public ConfigurationMappingException(final @NotNull Class<? extends JsonConfiguration> configurationClass, final @NotNull File file, final Throwable cause) {
+    public ConfigurationMappingException(final @NotNull Class<?> configurationClass, final @NotNull File file, final Throwable cause) {
         super("An error occurred during mapping of " + file.getPath() + " to " + configurationClass.getSimpleName(), cause);
     }
 
@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache which holds up to specified number of entries. When cache is full, an entry which was not used recently is evicted
+ * to make room for a new one, using second-chance (clock) approximation of LRU. Lookups of cached entries do not lock nor allocate.
+ */
+public final class BoundedCache<K, V> {
+
+    private final int maximumSize;
+
+    private final Map<K, Node<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Position of the clock hand. Iterators of ConcurrentHashMap are weakly consistent, so it stays usable when entries are added or removed. Guarded by this.
+    private @Nullable Iterator<Node<V>> hand = null;
+
+    /**
+     * Creates {@link BoundedCache} which holds up to {@code maximumSize} entries.
+     *
+     * @param maximumSize maximum number of entries.
+     * @throws IllegalArgumentException when {@code maximumSize} is not positive.
+     */
+    public BoundedCache(final int maximumSize) throws IllegalArgumentException {
+        if (maximumSize <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive, but found: " + maximumSize);
+        // ...
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+    }
+
+    /**
+     * Returns value cached for provided key, or computes it using provided loader. Values computed as {@code null} are not cached.
+     * Loader may be called more than once for the same key when called concurrently, but only the first computed value is cached and returned.
+     *
+     * @param key key of the value.
+     * @param loader function used to compute the value if it is not cached.
+     * @return cached or computed value.
+     */
+    public @Nullable V get(final @NotNull K key, final @NotNull Function<? super K, ? extends V> loader) {
+        final Node<V> cached = entries.get(key);
+        // Returning cached value and marking it as recently used
+        if (cached != null) {
+            hits.increment();
+            // Avoiding the write when entry is already marked
+            if (cached.referenced == false)
+                cached.referenced = true;
+            // ...
+            return cached.value;
+        }
+        misses.increment();
+        // Computing the value outside any lock, so loaders can be slow or recursive
+        final V value = loader.apply(key);
+        if (value == null)
+            return null;
+        // Evicting an entry when cache is full
+        if (entries.size() >= maximumSize)
+            this.evict();
+        // ...
+        final Node<V> previous = entries.putIfAbsent(key, new Node<>(value));
+        return (previous != null) ? previous.value : value;
+    }
+
+    // Evicts the next entry which was not used since it was last passed by, continuing from where the previous eviction stopped.
+    // Entries passed by lose their mark, so an entry is always found within two rounds, unless marks are set again concurrently.
+    private synchronized void evict() {
+        final int limit = entries.size() * 2;
+        // ...
+        for (int i = 0; i < limit; i++) {
+            final @Nullable Node<V> node = this.advance();
+            // Stopping when there is nothing to evict
+            if (node == null)
+                return;
+            // Evicting entry which was not used recently
+            if (node.referenced == false) {
+                hand.remove();
+                return;
+            }
+            // Giving the entry a second chance
+            node.referenced = false;
+        }
+        // Entries keep being used concurrently; Evicting the next one
+        if (this.advance() != null)
+            hand.remove();
+    }
+
+    // Moves the clock hand to the next entry, starting over after the last one. Returns null if there are no entries.
+    private @Nullable Node<V> advance() {
+        if (hand == null || hand.hasNext() == false) {
+            hand = entries.values().iterator();
+            // ...
+            if (hand.hasNext() == false)
+                return null;
+        }
+        return hand.next();
+    }
+
+    /**
+     * Removes value cached for provided key.
+     */
+    public void invalidate(final @NotNull K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all cached values. Statistics are kept.
+     */
+    public void invalidate() {
+        entries.clear();
+    }
+
+    /**
+     * Returns number of cached values.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns number of lookups which returned cached value.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns number of lookups which had to compute the value.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+
+        // Whether entry has been used since it was last passed by during eviction.
+        private volatile boolean referenced = false;
+
+        private Node(final V value) {
+            this.value = value;
+        }
+
+    }
+
+}
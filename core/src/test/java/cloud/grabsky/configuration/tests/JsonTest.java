@@ -35,8 +35,8 @@ public class JsonTest {
         }
 
         @Override
-        public void toJson(final @NotNull JsonWriter out, final UUID value) throws UnsupportedOperationException {
-            throw new UnsupportedOperationException("NOT IMPLEMENTED");
+        public void toJson(final @NotNull JsonWriter out, final UUID value) throws IOException {
+            out.value(value.toString());
         }
     }
 }
@@ -1,10 +1,13 @@
 package cloud.grabsky.configuration.tests.tests;
 
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.FileSource;
 import cloud.grabsky.configuration.JsonConfiguration;
 import cloud.grabsky.configuration.JsonPath;
 import cloud.grabsky.configuration.exception.ConfigurationMappingException;
 import cloud.grabsky.configuration.tests.JsonTest;
 import cloud.grabsky.configuration.tests.util.TestUtil;
+import com.squareup.moshi.Moshi;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
@@ -33,11 +36,38 @@ public class TestA extends JsonTest {
         assertEquals("OK", Config.TEST_E);
         assertEquals("OK", Config.TEST_F.get(1));
         assertEquals(UUID.fromString("456fb8eb-f13d-4a34-8284-67e2469b634d"), Config.TEST_H);
+        assertEquals(7, Config.TEST_I_INT);
+        assertEquals(7777777777L, Config.TEST_I_LONG);
+        assertEquals(7.777777D, Config.TEST_I_DOUBLE);
+        assertTrue(Config.TEST_I_BOOLEAN);
 
         assertTrue(Config.WAS_RELOADED);
 
     }
 
+    @Test
+    public void checkMemoryMappedTypes() throws ConfigurationMappingException {
+        final File file = TestUtil.getFileFromClassPath("test_a.json");
+
+        if (file == null || file.exists() == false)
+            fail("File 'test_a.json' does not exist.");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().add(UUID.class, UUIDSerializer.INSTANCE).build());
+        mapper.setFileSource(FileSource.MEMORY_MAPPED);
+
+        // Clearing some of the values to make sure they are mapped again
+        Config.TEST_A = null;
+        Config.TEST_H = null;
+        Config.TEST_I_LONG = 0L;
+
+        mapper.map(Config.class, file);
+
+        assertEquals("OK", Config.TEST_A);
+        assertEquals("OK", Config.TEST_F.get(1));
+        assertEquals(UUID.fromString("456fb8eb-f13d-4a34-8284-67e2469b634d"), Config.TEST_H);
+        assertEquals(7777777777L, Config.TEST_I_LONG);
+    }
+
     public static final class Config implements JsonConfiguration {
         public static boolean WAS_RELOADED = false;
 
@@ -62,6 +92,18 @@ public class TestA extends JsonTest {
         @JsonPath("uuid")
         public static UUID TEST_H;
 
+        @JsonPath("primitives.int")
+        public static int TEST_I_INT;
+
+        @JsonPath("primitives.long")
+        public static long TEST_I_LONG;
+
+        @JsonPath("primitives.double")
+        public static double TEST_I_DOUBLE;
+
+        @JsonPath("primitives.boolean")
+        public static boolean TEST_I_BOOLEAN;
+
         @Override
         public void onReload() {
             WAS_RELOADED = true;
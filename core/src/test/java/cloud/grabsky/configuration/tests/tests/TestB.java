@@ -1,5 +1,6 @@
 package cloud.grabsky.configuration.tests.tests;
 
+import cloud.grabsky.configuration.ConfigurationHolder;
 import cloud.grabsky.configuration.JsonConfiguration;
 import cloud.grabsky.configuration.JsonPath;
 import cloud.grabsky.configuration.exception.ConfigurationMappingException;
@@ -10,6 +11,7 @@ import java.io.File;
 
 import static cloud.grabsky.configuration.tests.util.TestUtil.getFileFromClassPath;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -39,6 +41,38 @@ public class TestB extends JsonTest {
         assertEquals("OK", Config.FAILS);
     }
 
+    @Test
+    public void checkMultipleFallback() throws ConfigurationMappingException {
+        final File fileA = getFileFromClassPath("test_a.json");
+        final File fileB = getFileFromClassPath("test_b.json");
+        final File malformedFileB = getFileFromClassPath("test_b.malformed.json");
+
+        if (fileA == null || fileA.exists() == false)
+            fail("File 'test_a.json' does not exist.");
+
+        if (fileB == null || fileB.exists() == false)
+            fail("File 'test_b.json' does not exist.");
+
+        if (malformedFileB == null || malformedFileB.exists() == false)
+            fail("File 'test_b.malformed.json' does not exist.");
+
+        // Mapping non-malformed file to populate values
+        CONFIGURATION_MAPPER.map(Config.class, fileB);
+
+        assertEquals("OK", Config.NEVER_FAILS);
+        assertEquals("OK", Config.FAILS);
+
+        // Mapping multiple files, one of which is malformed; Fields of all classes should remain unchanged because of the parsing failure
+        assertThrows(ConfigurationMappingException.class, () -> CONFIGURATION_MAPPER.map(
+                ConfigurationHolder.of(OtherConfig.class, fileA),
+                ConfigurationHolder.of(Config.class, malformedFileB)
+        ));
+
+        assertEquals("OK", Config.NEVER_FAILS);
+        assertEquals("OK", Config.FAILS);
+        assertNull(OtherConfig.SIMPLE_STRING);
+    }
+
     public static final class Config implements JsonConfiguration {
 
         @JsonPath("neverFails")
@@ -48,4 +82,11 @@ public class TestB extends JsonTest {
         public static String FAILS;
 
     }
+
+    public static final class OtherConfig implements JsonConfiguration {
+
+        @JsonPath("simpleString")
+        public static String SIMPLE_STRING;
+
+    }
 }
@@ -0,0 +1,129 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.JsonAdapter;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import cloud.grabsky.configuration.tests.JsonTest;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static cloud.grabsky.configuration.tests.util.TestUtil.getFileFromClassPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TestC extends JsonTest {
+
+    @Test
+    public void checkPaths() throws ConfigurationMappingException {
+        final File file = getFileFromClassPath("test_c.json");
+
+        if (file == null || file.exists() == false)
+            fail("File 'test_c.json' does not exist.");
+
+        CONFIGURATION_MAPPER.map(Config.class, file);
+
+        assertEquals(Map.of("value", "OK", "other", "OK"), Config.TEST_A);
+        assertEquals("OK", Config.TEST_B);
+        assertEquals("OK", Config.TEST_C);
+        assertEquals("OK", Config.TEST_D);
+        assertEquals("OK", Config.TEST_E);
+        assertEquals("OK", Config.TEST_F);
+
+        // Mapping class with path that does not exist; Mapping should fail
+        assertThrows(ConfigurationMappingException.class, () -> CONFIGURATION_MAPPER.map(MissingConfig.class, file));
+    }
+
+    @Test
+    public void checkPartialRead(final @TempDir Path directory) throws IOException {
+        final File file = directory.resolve("partial.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"object\": { \"a\": \"A\", \"b\": \"B\" }, \"array\": [[\"C\", \"D\"], \"E\"], \"after\": \"F\" }");
+
+        // Mapping values with adapters which do not read them completely; Mapping should fail instead of reading the rest of the document from a wrong position
+        assertThrows(ConfigurationMappingException.class, () -> CONFIGURATION_MAPPER.map(PartialObjectConfig.class, file));
+        assertThrows(ConfigurationMappingException.class, () -> CONFIGURATION_MAPPER.map(PartialArrayConfig.class, file));
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("section")
+        public static Map<String, String> TEST_A;
+
+        @JsonPath("section.value")
+        public static String TEST_B;
+
+        @JsonPath("section.value")
+        public static String TEST_C;
+
+        @JsonPath("simpleArray[1]")
+        public static String TEST_D;
+
+        @JsonPath("complexArray[0].simpleString")
+        public static String TEST_E;
+
+        @JsonPath("last")
+        public static String TEST_F;
+
+    }
+
+    public static final class MissingConfig implements JsonConfiguration {
+
+        @JsonPath("section.missing")
+        public static String MISSING;
+
+    }
+
+    public static final class PartialObjectConfig implements JsonConfiguration {
+
+        @JsonPath("object")
+        @JsonAdapter(fromJson = PartialAdapter.class)
+        public static String OBJECT;
+
+        @JsonPath("after")
+        public static String AFTER;
+
+    }
+
+    public static final class PartialArrayConfig implements JsonConfiguration {
+
+        @JsonPath("array[0]")
+        @JsonAdapter(fromJson = PartialAdapter.class)
+        public static String ARRAY;
+
+        @JsonPath("after")
+        public static String AFTER;
+
+    }
+
+    // Reads only the first value of an object or an array, leaving the reader inside of it.
+    public static final class PartialAdapter extends com.squareup.moshi.JsonAdapter<String> {
+
+        @Override
+        public String fromJson(final @NotNull JsonReader in) throws IOException {
+            if (in.peek() == JsonReader.Token.BEGIN_OBJECT) {
+                in.beginObject();
+                in.nextName();
+            } else in.beginArray();
+            // ...
+            return in.nextString();
+        }
+
+        @Override
+        public void toJson(final @NotNull JsonWriter out, final String value) throws IOException {
+            out.value(value);
+        }
+
+    }
+
+}
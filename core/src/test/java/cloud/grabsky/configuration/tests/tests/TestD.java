@@ -0,0 +1,86 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationWatcher;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import cloud.grabsky.configuration.tests.JsonTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TestD extends JsonTest {
+
+    @Test
+    public void checkWatcher(final @TempDir Path directory) throws IOException, InterruptedException, ConfigurationMappingException {
+        final File fileA = directory.resolve("watched_a.json").toFile();
+        final File fileB = directory.resolve("watched_b.json").toFile();
+
+        Files.writeString(fileA.toPath(), "{ \"value\": \"A1\" }");
+        Files.writeString(fileB.toPath(), "{ \"value\": \"B1\" }");
+
+        // Mapping files to populate values
+        CONFIGURATION_MAPPER.map(ConfigurationHolder.of(ConfigA.class, fileA), ConfigurationHolder.of(ConfigB.class, fileB));
+
+        assertEquals("A1", ConfigA.VALUE);
+        assertEquals("B1", ConfigB.VALUE);
+
+        final BlockingQueue<ConfigurationHolder<?>> successes = new LinkedBlockingQueue<>();
+        final BlockingQueue<Throwable> failures = new LinkedBlockingQueue<>();
+
+        try (final ConfigurationWatcher watcher = ConfigurationWatcher.create(CONFIGURATION_MAPPER, Duration.ofMillis(50))) {
+            watcher.register(ConfigurationHolder.of(ConfigA.class, fileA))
+                    .register(ConfigurationHolder.of(ConfigB.class, fileB))
+                    .onSuccess(successes::add)
+                    .onFailure((holder, error) -> failures.add(error))
+                    .start();
+
+            // Changing one of the files; Only that file should be re-mapped
+            Files.writeString(fileA.toPath(), "{ \"value\": \"A2\" }");
+
+            final ConfigurationHolder<?> reloaded = successes.poll(10, TimeUnit.SECONDS);
+
+            assertNotNull(reloaded);
+            assertEquals(ConfigA.class, reloaded.getConfigurationClass());
+            assertEquals("A2", ConfigA.VALUE);
+            assertEquals("B1", ConfigB.VALUE);
+
+            // Breaking the file; Values should remain unchanged and failure handler should be called
+            Files.writeString(fileB.toPath(), "{ \"value\": ");
+
+            final Throwable error = failures.poll(10, TimeUnit.SECONDS);
+
+            assertInstanceOf(ConfigurationMappingException.class, error);
+            assertEquals("B1", ConfigB.VALUE);
+            assertNull(successes.poll());
+        }
+    }
+
+    public static final class ConfigA implements JsonConfiguration {
+
+        @JsonPath("value")
+        public static String VALUE;
+
+    }
+
+    public static final class ConfigB implements JsonConfiguration {
+
+        @JsonPath("value")
+        public static String VALUE;
+
+    }
+}
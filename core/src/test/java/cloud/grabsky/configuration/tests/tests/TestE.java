@@ -0,0 +1,85 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import cloud.grabsky.configuration.tests.JsonTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestE extends JsonTest {
+
+    @Test
+    public void checkUnchangedSkip(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("unchanged.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"value\": \"A\" }");
+
+        final ConfigurationHolder<Config> holder = ConfigurationHolder.of(Config.class, file);
+
+        // Mapping the file for the first time; Holder should be applied
+        assertEquals(List.of(holder), CONFIGURATION_MAPPER.map(false, holder));
+        assertEquals("A", Config.VALUE);
+        assertEquals(1, Config.RELOADS);
+
+        // Mapping unchanged file; Holder should be skipped
+        assertEquals(List.of(), CONFIGURATION_MAPPER.map(false, holder));
+        assertEquals(1, Config.RELOADS);
+
+        // Mapping unchanged file with force flag; Holder should be applied
+        assertEquals(List.of(holder), CONFIGURATION_MAPPER.map(true, holder));
+        assertEquals(2, Config.RELOADS);
+
+        // Changing the file without changing its size; Holder should be applied
+        Files.writeString(file.toPath(), "{ \"value\": \"B\" }");
+
+        assertEquals(List.of(holder), CONFIGURATION_MAPPER.map(false, holder));
+        assertEquals("B", Config.VALUE);
+        assertEquals(3, Config.RELOADS);
+    }
+
+    @Test
+    public void checkForcedThenUnchanged(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("forced.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"value\": \"C\" }");
+        // Moving modification time to the past, so it can be trusted
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis() - 60_000L));
+
+        final ConfigurationHolder<Config> holder = ConfigurationHolder.of(Config.class, file);
+
+        // Mapping with force flag; File is not hashed, but should still be skipped while it is unchanged
+        assertEquals(List.of(holder), CONFIGURATION_MAPPER.map(true, holder));
+        assertEquals(List.of(), CONFIGURATION_MAPPER.map(false, holder));
+
+        // Changing the file; Holder should be applied
+        Files.writeString(file.toPath(), "{ \"value\": \"D\" }");
+
+        assertEquals(List.of(holder), CONFIGURATION_MAPPER.map(false, holder));
+        assertEquals("D", Config.VALUE);
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("value")
+        public static String VALUE;
+
+        public static int RELOADS = 0;
+
+        @Override
+        public void onReload() {
+            RELOADS++;
+        }
+
+    }
+}
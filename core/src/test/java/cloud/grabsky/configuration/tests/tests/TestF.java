@@ -0,0 +1,81 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.MappingListener;
+import cloud.grabsky.configuration.MappingRecorder;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import cloud.grabsky.configuration.tests.JsonTest;
+import cloud.grabsky.configuration.tests.util.TestUtil;
+import com.squareup.moshi.Moshi;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class TestF extends JsonTest {
+
+    @Test
+    public void checkListener() throws ConfigurationMappingException {
+        final File file = TestUtil.getFileFromClassPath("test_a.json");
+
+        if (file == null || file.exists() == false)
+            fail("File 'test_a.json' does not exist.");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().add(UUID.class, UUIDSerializer.INSTANCE).build());
+
+        final List<String> events = new ArrayList<>();
+        final List<String> paths = new ArrayList<>();
+
+        mapper.setListener(new MappingListener() {
+
+            @Override
+            public void onCollect(final @NotNull ConfigurationHolder<?> holder, final long bytes, final long readTime, final long parseTime) {
+                assertTrue(bytes > 0 && bytes <= file.length());
+                events.add("collect");
+            }
+
+            @Override
+            public void onField(final @NotNull ConfigurationHolder<?> holder, final @NotNull String path, final @NotNull String adapter, final long time) {
+                paths.add(path);
+            }
+
+            @Override
+            public void onInsert(final @NotNull ConfigurationHolder<?> holder, final long time) {
+                events.add("insert");
+            }
+
+            @Override
+            public void onReload(final @NotNull ConfigurationHolder<?> holder, final long time) {
+                events.add("reload");
+            }
+
+        });
+
+        mapper.map(TestA.Config.class, file);
+
+        assertEquals(List.of("collect", "insert", "reload"), events);
+        assertTrue(paths.contains("simpleString"));
+        assertTrue(paths.contains("firstObject.secondObject.simpleString"));
+
+        // Replacing listener with the recorder
+        final MappingRecorder recorder = new MappingRecorder();
+        mapper.setListener(recorder);
+
+        mapper.map(TestA.Config.class, file);
+
+        final String summary = recorder.summary();
+
+        assertTrue(summary.contains("Config (test_a.json)"));
+        assertTrue(summary.contains("Config (test_a.json) $.simpleString"));
+        assertTrue(summary.contains("direct(int)"));
+    }
+
+}
@@ -0,0 +1,74 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.adapter.AbstractEnumJsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestG {
+
+    @Test
+    public void checkCaseInsensitive() throws IOException {
+        final Adapter adapter = new Adapter(false, false);
+
+        assertEquals(Fruit.APPLE, adapter.fromJson("\"APPLE\""));
+        assertEquals(Fruit.APPLE, adapter.fromJson("\"apple\""));
+        assertEquals(Fruit.DRAGON_FRUIT, adapter.fromJson("\"Dragon_Fruit\""));
+        // Constants which names differ only in case; Exact match should be preferred, first declared constant otherwise
+        assertEquals(Fruit.kiwi, adapter.fromJson("\"kiwi\""));
+        assertEquals(Fruit.KIWI, adapter.fromJson("\"KIWI\""));
+        assertEquals(Fruit.KIWI, adapter.fromJson("\"Kiwi\""));
+
+        assertThrows(JsonDataException.class, () -> adapter.fromJson("\"banana\""));
+    }
+
+    @Test
+    public void checkCaseSensitive() throws IOException {
+        final Adapter adapter = new Adapter(true, false);
+
+        // Names which differ only in case should still be accepted, with exact match preferred
+        assertEquals(Fruit.APPLE, adapter.fromJson("\"APPLE\""));
+        assertEquals(Fruit.APPLE, adapter.fromJson("\"apple\""));
+        assertEquals(Fruit.kiwi, adapter.fromJson("\"kiwi\""));
+        assertEquals(Fruit.KIWI, adapter.fromJson("\"Kiwi\""));
+
+        assertThrows(JsonDataException.class, () -> adapter.fromJson("\"banana\""));
+    }
+
+    @Test
+    public void checkStrict() throws IOException {
+        final Adapter adapter = new Adapter(true, true);
+
+        assertEquals(Fruit.APPLE, adapter.fromJson("\"APPLE\""));
+        assertEquals(Fruit.kiwi, adapter.fromJson("\"kiwi\""));
+
+        assertThrows(JsonDataException.class, () -> adapter.fromJson("\"apple\""));
+        assertThrows(JsonDataException.class, () -> adapter.fromJson("\"Kiwi\""));
+    }
+
+    @Test
+    public void checkToJson() {
+        final Adapter adapter = new Adapter(false, false);
+
+        assertEquals("\"DRAGON_FRUIT\"", adapter.toJson(Fruit.DRAGON_FRUIT));
+        assertEquals("\"kiwi\"", adapter.toJson(Fruit.kiwi));
+    }
+
+    @SuppressWarnings("unused")
+    public enum Fruit {
+        APPLE, DRAGON_FRUIT, KIWI, kiwi
+    }
+
+    public static final class Adapter extends AbstractEnumJsonAdapter<Fruit> {
+
+        public Adapter(final boolean isCaseSensitive, final boolean isStrict) {
+            super(Fruit.class, isCaseSensitive, isStrict);
+        }
+
+    }
+
+}
@@ -0,0 +1,47 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.util.BoundedCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestH {
+
+    @Test
+    public void checkBoundedCache() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(2);
+        final AtomicInteger loads = new AtomicInteger();
+
+        // Loading the value once and returning the same instance afterwards
+        final String value = cache.get("a", (key) -> { loads.incrementAndGet(); return new String("A"); });
+
+        assertSame(value, cache.get("a", (key) -> { loads.incrementAndGet(); return new String("A"); }));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // Null values should not be cached
+        assertNull(cache.get("b", (key) -> null));
+        assertEquals(1, cache.size());
+
+        // Cache should never grow beyond its maximum size
+        cache.get("c", (key) -> "C");
+        cache.get("d", (key) -> "D");
+
+        assertEquals(2, cache.size());
+        // Recently used entry should be kept
+        assertSame(value, cache.get("a", (key) -> "other"));
+
+        // Invalidating the cache
+        cache.invalidate();
+
+        assertEquals(0, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+    }
+
+}
@@ -0,0 +1,112 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.MappingContext;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TestI {
+
+    @Test
+    public void checkMappingContext(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File first = directory.resolve("first.json").toFile();
+        final File second = directory.resolve("second.json").toFile();
+
+        Files.writeString(first.toPath(), "{ \"a\": \"A\", \"b\": \"B\" }");
+        Files.writeString(second.toPath(), "{ \"a\": \"A\", \"b\": \"C\" }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().add(Value.class, new ValueAdapter()).build());
+
+        // Context should not exist outside of mapping run
+        assertNull(MappingContext.current());
+
+        mapper.map(ConfigurationHolder.of(ConfigA.class, first), ConfigurationHolder.of(ConfigB.class, second));
+
+        // Identical values should be shared between all files mapped during the same run
+        assertSame(ConfigA.A, ConfigB.A);
+        assertNotSame(ConfigA.B, ConfigB.B);
+        assertEquals("C", ConfigB.B.text);
+
+        final Value previous = ConfigA.A;
+
+        mapper.map(ConfigurationHolder.of(ConfigA.class, first));
+
+        // Values should not be shared between separate runs
+        assertNotSame(previous, ConfigA.A);
+        assertNull(MappingContext.current());
+    }
+
+    public static final class ConfigA implements JsonConfiguration {
+
+        @JsonPath("a")
+        public static Value A;
+
+        @JsonPath("b")
+        public static Value B;
+
+    }
+
+    public static final class ConfigB implements JsonConfiguration {
+
+        @JsonPath("a")
+        public static Value A;
+
+        @JsonPath("b")
+        public static Value B;
+
+    }
+
+    public static final class Value {
+
+        private final String text;
+
+        private Value(final String text) {
+            this.text = text;
+        }
+
+    }
+
+    // Shares values of the same text within a single mapping run.
+    private static final class ValueAdapter extends JsonAdapter<Value> {
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Value fromJson(final @NotNull JsonReader in) throws IOException {
+            final String text = in.nextString();
+            final MappingContext context = MappingContext.current();
+            // ...
+            assertNotNull(context);
+            // ...
+            final ConcurrentHashMap<String, Value> values = context.getAttribute(ConcurrentHashMap.class, ConcurrentHashMap::new);
+            return values.computeIfAbsent(text, Value::new);
+        }
+
+        @Override
+        public void toJson(final @NotNull JsonWriter out, final Value value) {
+            throw new UnsupportedOperationException("NOT IMPLEMENTED");
+        }
+
+    }
+
+}
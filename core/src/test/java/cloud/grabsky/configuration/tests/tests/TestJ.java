@@ -0,0 +1,118 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.SnapshotStore;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestJ {
+
+    private static final AtomicInteger READS = new AtomicInteger();
+
+    @Test
+    public void checkSnapshots(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("snapshot.json").toFile();
+        final Path snapshots = directory.resolve("snapshots");
+
+        Files.writeString(file.toPath(), "{ \"text\": \"A\", \"number\": 7, \"list\": [\"B\", \"C\"], \"unit\": \"SECONDS\" }");
+
+        final ConfigurationHolder<Config> holder = ConfigurationHolder.of(Config.class, file);
+
+        // Mapping the file for the first time; File should be parsed and snapshot written
+        create(snapshots).map(holder);
+        assertEquals(3, READS.get());
+        assertValues("A", 7, List.of("B", "C"), TimeUnit.SECONDS);
+
+        // Mapping the file using a new mapper; Values should be read from the snapshot
+        Config.TEXT = null;
+        create(snapshots).map(holder);
+        assertEquals(3, READS.get());
+        assertValues("A", 7, List.of("B", "C"), TimeUnit.SECONDS);
+
+        // Corrupting the snapshot; File should be parsed again
+        try (final Stream<Path> files = Files.list(snapshots)) {
+            for (final Path snapshot : files.toList())
+                Files.write(snapshot, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        }
+        create(snapshots).map(holder);
+        assertEquals(6, READS.get());
+        assertValues("A", 7, List.of("B", "C"), TimeUnit.SECONDS);
+
+        // Changing the file; Snapshot is stale and file should be parsed again
+        Files.writeString(file.toPath(), "{ \"text\": \"D\", \"number\": 8, \"list\": [], \"unit\": \"HOURS\" }");
+        create(snapshots).map(holder);
+        assertEquals(7, READS.get());
+        assertValues("D", 8, List.of(), TimeUnit.HOURS);
+
+        // Invalidating all snapshots; File should be parsed again
+        SnapshotStore.create(snapshots).invalidate();
+        create(snapshots).map(holder);
+        assertEquals(8, READS.get());
+    }
+
+    private static ConfigurationMapper create(final @NotNull Path snapshots) {
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().add(String.class, new CountingAdapter()).build());
+        mapper.setSnapshotStore(SnapshotStore.create(snapshots));
+        return mapper;
+    }
+
+    private static void assertValues(final String text, final int number, final List<String> list, final TimeUnit unit) {
+        assertEquals(text, Config.TEXT);
+        assertEquals(number, Config.NUMBER);
+        assertEquals(list, Config.LIST);
+        assertEquals(unit, Config.UNIT);
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("text")
+        public static String TEXT;
+
+        @JsonPath("number")
+        public static int NUMBER;
+
+        @JsonPath("list")
+        public static List<String> LIST;
+
+        @JsonPath("unit")
+        public static TimeUnit UNIT;
+
+    }
+
+    // Counts strings read from the file.
+    private static final class CountingAdapter extends JsonAdapter<String> {
+
+        @Override
+        public String fromJson(final @NotNull JsonReader in) throws IOException {
+            READS.incrementAndGet();
+            return in.nextString();
+        }
+
+        @Override
+        public void toJson(final @NotNull JsonWriter out, final String value) {
+            throw new UnsupportedOperationException("NOT IMPLEMENTED");
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.Moshi;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestK {
+
+    @Test
+    public void checkSave(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("save.json").toFile();
+
+        Files.writeString(file.toPath(), """
+                {
+                    "text": "A",
+                    "unknown": { "keep": [1, 2, 3] },
+                    "nested": { "number": 7, "other": true },
+                    "list": ["B", "C"],
+                    "unit": "SECONDS"
+                }
+                """);
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        final ConfigurationHolder<Config> holder = ConfigurationHolder.of(Config.class, file);
+
+        mapper.map(holder);
+
+        // Making the file readable by everyone, where supported
+        final boolean isPosix = Files.getFileStore(file.toPath()).supportsFileAttributeView(PosixFileAttributeView.class);
+        if (isPosix == true)
+            Files.setPosixFilePermissions(file.toPath(), PosixFilePermissions.fromString("rw-r--r--"));
+
+        // Changing some of the values and writing them back to the file
+        Config.TEXT = "D";
+        Config.NUMBER = 8;
+        mapper.save(holder);
+
+        // Permissions of the original file should be kept
+        if (isPosix == true)
+            assertEquals(PosixFilePermissions.fromString("rw-r--r--"), Files.getPosixFilePermissions(file.toPath()));
+
+        final String contents = Files.readString(file.toPath());
+
+        // Unknown keys and unchanged values should be copied as they were written
+        assertTrue(contents.contains("{ \"keep\": [1, 2, 3] }"));
+        assertTrue(contents.contains("[\"B\", \"C\"]"));
+        assertTrue(contents.contains("\"other\": true"));
+
+        // Saved file should not be seen as changed by the mapper which saved it
+        assertEquals(List.of(), mapper.map(false, holder));
+
+        // Temporary file should no longer exist
+        try (final Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+
+        // Mapping the file again using a new mapper; Values should be the same as saved ones
+        Config.TEXT = null;
+        Config.NUMBER = 0;
+        ConfigurationMapper.create(new Moshi.Builder().build()).map(holder);
+
+        assertEquals("D", Config.TEXT);
+        assertEquals(8, Config.NUMBER);
+        assertEquals(List.of("B", "C"), Config.LIST);
+        assertEquals(TimeUnit.SECONDS, Config.UNIT);
+    }
+
+    @Test
+    public void checkMissingIndices(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("indices.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"list\": [\"A\"] }");
+
+        Indices.SECOND = "B";
+        Indices.MISSING = "C";
+        Indices.CREATED = "D";
+
+        ConfigurationMapper.create(new Moshi.Builder().build()).save(ConfigurationHolder.of(Indices.class, file));
+
+        // Paths placed at indices which do not exist should be skipped, without adding placeholder values
+        final Object saved = new Moshi.Builder().build().adapter(Object.class).fromJson(Files.readString(file.toPath()));
+        assertEquals(Map.of("list", List.of("A"), "created", Map.of("value", "D")), saved);
+    }
+
+    public static final class Indices implements JsonConfiguration {
+
+        @JsonPath("list[1]")
+        public static String SECOND;
+
+        @JsonPath("missing[0]")
+        public static String MISSING;
+
+        @JsonPath("created.value")
+        public static String CREATED;
+
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("text")
+        public static String TEXT;
+
+        @JsonPath("nested.number")
+        public static int NUMBER;
+
+        @JsonPath("list")
+        public static List<String> LIST;
+
+        @JsonPath("unit")
+        public static TimeUnit UNIT;
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ChangeSet;
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.Moshi;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestL {
+
+    private static Set<String> RELOADED = null;
+
+    @Test
+    public void checkPartialMapping(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("partial.json").toFile();
+
+        Files.writeString(file.toPath(), """
+                {
+                    "messages": { "welcome": "A", "goodbye": "B" },
+                    "shop": { "items": ["C", "D"], "currency": "E" },
+                    "other": "F"
+                }
+                """);
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        final ConfigurationHolder<Config> holder = ConfigurationHolder.of(Config.class, file);
+
+        // Mapping the whole file; All paths should be reported as reloaded
+        mapper.map(holder);
+        assertEquals(List.of("messages.welcome", "messages.goodbye", "shop", "other"), List.copyOf(RELOADED));
+
+        Files.writeString(file.toPath(), """
+                {
+                    "messages": { "welcome": "G", "goodbye": "H" },
+                    "shop": { "items": ["I"], "currency": "J" },
+                    "other": "K"
+                }
+                """);
+
+        // Mapping only messages; Other fields should remain unchanged
+        assertEquals(Set.of("messages.welcome", "messages.goodbye"), mapper.map(holder, Set.of("messages")));
+        assertEquals(Set.of("messages.welcome", "messages.goodbye"), RELOADED);
+        assertEquals("G", Config.WELCOME);
+        assertEquals("H", Config.GOODBYE);
+        assertEquals("{items=[C, D], currency=E}", Config.SHOP.toString());
+        assertEquals("F", Config.OTHER);
+
+        // Mapping path nested inside of a field; Field containing it should be mapped
+        assertEquals(Set.of("shop"), mapper.map(holder, Set.of("shop.items")));
+        assertEquals("{items=[I], currency=J}", Config.SHOP.toString());
+        assertEquals("F", Config.OTHER);
+
+        // Mapping path which does not match any field; Nothing should be mapped
+        RELOADED = null;
+        assertEquals(Set.of(), mapper.map(holder, Set.of("unknown")));
+        assertEquals(null, RELOADED);
+        assertEquals("F", Config.OTHER);
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("messages.welcome")
+        public static String WELCOME;
+
+        @JsonPath("messages.goodbye")
+        public static String GOODBYE;
+
+        @JsonPath("shop")
+        public static Object SHOP;
+
+        @JsonPath("other")
+        public static String OTHER;
+
+        @Override
+        public void onReload(final @NotNull ChangeSet changes) {
+            RELOADED = changes.getPaths();
+        }
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ChangeSet;
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.Moshi;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestM {
+
+    private static ChangeSet CHANGES = null;
+
+    @Test
+    public void checkChangeSet(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("changes.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"messages\": { \"welcome\": \"A\" }, \"items\": [\"B\", \"C\"], \"amount\": 1.5, \"enabled\": true }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        final ConfigurationHolder<Config> holder = ConfigurationHolder.of(Config.class, file);
+
+        // Mapping the file for the first time; All fields should be changed
+        mapper.map(holder);
+        assertEquals(Set.of("messages.welcome", "items", "amount", "enabled"), CHANGES.getPaths());
+
+        final List<String> items = Config.ITEMS;
+
+        // Changing only the message; Other fields should be left as they were, including their instances
+        Files.writeString(file.toPath(), "{ \"messages\": { \"welcome\": \"D\" }, \"items\": [\"B\", \"C\"], \"amount\": 1.5, \"enabled\": true }");
+        mapper.map(holder);
+        assertEquals(Set.of("messages.welcome"), CHANGES.getPaths());
+        assertTrue(CHANGES.contains("messages"));
+        assertFalse(CHANGES.contains("items"));
+        assertSame(items, Config.ITEMS);
+        assertEquals("D", Config.WELCOME);
+
+        // Mapping the same file again; Nothing should be changed
+        mapper.map(holder);
+        assertTrue(CHANGES.isEmpty());
+
+        // Changing primitive values
+        Files.writeString(file.toPath(), "{ \"messages\": { \"welcome\": \"D\" }, \"items\": [\"B\", \"C\"], \"amount\": 2.5, \"enabled\": false }");
+        mapper.map(holder);
+        assertEquals(Set.of("amount", "enabled"), CHANGES.getPaths());
+        assertEquals(2.5, Config.AMOUNT);
+        assertFalse(Config.ENABLED);
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("messages.welcome")
+        public static String WELCOME;
+
+        @JsonPath("items")
+        public static List<String> ITEMS;
+
+        @JsonPath("amount")
+        public static double AMOUNT;
+
+        @JsonPath("enabled")
+        public static boolean ENABLED;
+
+        @Override
+        public void onReload(final @NotNull ChangeSet changes) {
+            CHANGES = changes;
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.ConfigurationReference;
+import cloud.grabsky.configuration.JsonNullable;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.Moshi;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestN {
+
+    @Test
+    public void checkReference(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File first = directory.resolve("first.json").toFile();
+        final File second = directory.resolve("second.json").toFile();
+
+        Files.writeString(first.toPath(), "{ \"arena\": { \"name\": \"A\", \"size\": 10 }, \"spawns\": [\"B\", \"C\"], \"description\": null }");
+        Files.writeString(second.toPath(), "{ \"arena\": { \"name\": \"D\", \"size\": 20 }, \"spawns\": [], \"description\": null }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+
+        // Mapping the same class from multiple files
+        final ConfigurationReference<Arena> firstArena = mapper.reference(Arena.class, first);
+        final ConfigurationReference<Arena> secondArena = mapper.reference(Arena.class, second);
+
+        assertEquals(new Arena("A", 10, List.of("B", "C"), null), firstArena.get());
+        assertEquals(new Arena("D", 20, List.of(), null), secondArena.get());
+
+        // Reloading; Previous instance should be left as it was
+        final Arena previous = firstArena.get();
+        Files.writeString(first.toPath(), "{ \"arena\": { \"name\": \"E\", \"size\": 30 }, \"spawns\": [\"F\"], \"description\": \"G\" }");
+        firstArena.reload();
+
+        assertEquals(new Arena("A", 10, List.of("B", "C"), null), previous);
+        assertEquals(new Arena("E", 30, List.of("F"), "G"), firstArena.get());
+
+        // Failed reload; Current instance should remain unchanged
+        final Arena current = firstArena.get();
+        Files.writeString(first.toPath(), "{ \"arena\": { \"name\": \"H\" } }");
+        assertThrows(ConfigurationMappingException.class, firstArena::reload);
+        assertSame(current, firstArena.get());
+    }
+
+    @Test
+    public void checkFinalFields(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("settings.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"settings\": { \"debug\": true, \"prefix\": \"A\" } }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        final Settings settings = mapper.mapInstance(Settings.class, file);
+
+        assertEquals(true, settings.debug);
+        assertEquals("A", settings.prefix);
+        assertNull(settings.ignored);
+    }
+
+    @Test
+    public void checkOverlappingReloads(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("overlapping.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"name\": \"A\" }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        final ConfigurationReference<Name> reference = mapper.reference(Name.class, file);
+
+        // Queueing reloads, so they can be finished in reverse order
+        final List<Runnable> tasks = new ArrayList<>();
+        mapper.setExecutor(tasks::add);
+
+        final CompletableFuture<Name> older = reference.reloadAsync();
+        final CompletableFuture<Name> newer = reference.reloadAsync();
+
+        assertEquals(2, tasks.size());
+
+        // Finishing the newer reload first
+        Files.writeString(file.toPath(), "{ \"name\": \"C\" }");
+        tasks.get(1).run();
+
+        assertEquals(new Name("C"), newer.join());
+        assertEquals(new Name("C"), reference.get());
+
+        // Finishing the older reload, which reads outdated contents; Newer instance should be kept
+        Files.writeString(file.toPath(), "{ \"name\": \"B\" }");
+        tasks.get(0).run();
+
+        assertEquals(new Name("C"), older.join());
+        assertEquals(new Name("C"), reference.get());
+
+        // Reloading again; Contents should be published as usual
+        assertEquals(new Name("B"), reference.reload());
+        assertEquals(new Name("B"), reference.get());
+    }
+
+    public record Name(@JsonPath("name") String name) { /* EMPTY */ }
+
+    public record Arena(
+            @JsonPath("arena.name") String name,
+            @JsonPath("arena.size") int size,
+            @JsonPath("spawns") List<String> spawns,
+            @JsonPath("description") @JsonNullable String description
+    ) { /* EMPTY */ }
+
+    public static final class Settings {
+
+        @JsonPath("settings.debug")
+        private final boolean debug;
+
+        @JsonPath("settings.prefix")
+        private final String prefix;
+
+        private final String ignored;
+
+        private Settings() {
+            this.debug = false;
+            this.prefix = null;
+            this.ignored = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.Moshi;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestO {
+
+    @Test
+    public void checkSwitchingFiles(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File first = directory.resolve("first.json").toFile();
+        final File second = directory.resolve("second.json").toFile();
+
+        Files.writeString(first.toPath(), "{ \"text\": \"A\" }");
+        Files.writeString(second.toPath(), "{ \"text\": \"B\" }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        final ConfigurationHolder<Config> firstHolder = ConfigurationHolder.of(Config.class, first);
+        final ConfigurationHolder<Config> secondHolder = ConfigurationHolder.of(Config.class, second);
+
+        // Mapping the first file
+        assertEquals(List.of(firstHolder), mapper.map(false, firstHolder));
+        assertEquals("A", Config.TEXT);
+
+        // Mapping the same file again; Nothing should be mapped
+        assertEquals(List.of(), mapper.map(false, firstHolder));
+
+        // Mapping the second file
+        assertEquals(List.of(secondHolder), mapper.map(false, secondHolder));
+        assertEquals("B", Config.TEXT);
+
+        // Mapping the first file again; Although it has not changed, class now holds values of the second file
+        assertEquals(List.of(firstHolder), mapper.map(false, firstHolder));
+        assertEquals("A", Config.TEXT);
+
+        // Mapping the first file once more; Nothing should be mapped
+        assertEquals(List.of(), mapper.map(false, firstHolder));
+        assertEquals("A", Config.TEXT);
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("text")
+        public static String TEXT;
+
+    }
+
+}
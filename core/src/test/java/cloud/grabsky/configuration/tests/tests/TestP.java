@@ -0,0 +1,113 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonAdapter;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.adapter.AbstractEnumJsonAdapter;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestP {
+
+    @Test
+    public void checkUnchangedValues(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("unchanged.json").toFile();
+
+        // Values are written differently than adapters would write them
+        final String contents = """
+                {
+                    "unit": "seconds",
+                    "lines": ["A", "B"],
+                    "text": "C"
+                }""";
+
+        Files.writeString(file.toPath(), contents);
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        final ConfigurationHolder<Config> holder = ConfigurationHolder.of(Config.class, file);
+
+        mapper.map(holder);
+
+        assertEquals(TimeUnit.SECONDS, Config.UNIT);
+        assertEquals("A\nB", Config.LINES);
+
+        // Saving without changing anything; File should be left as it was
+        mapper.save(holder);
+        assertEquals(contents, Files.readString(file.toPath()));
+
+        // Changing only the text; Other values should be left as they were
+        Config.TEXT = "D";
+        mapper.save(holder);
+
+        final String saved = Files.readString(file.toPath());
+
+        assertTrue(saved.contains("\"unit\": \"seconds\""));
+        assertTrue(saved.contains("\"lines\": [\"A\", \"B\"]"));
+        assertTrue(saved.contains("\"text\": \"D\""));
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("unit")
+        @JsonAdapter(fromJson = UnitAdapter.class)
+        public static TimeUnit UNIT;
+
+        @JsonPath("lines")
+        @JsonAdapter(fromJson = LinesAdapter.class)
+        public static String LINES;
+
+        @JsonPath("text")
+        public static String TEXT;
+
+    }
+
+    public static final class UnitAdapter extends AbstractEnumJsonAdapter<TimeUnit> {
+
+        public UnitAdapter() {
+            super(TimeUnit.class, false);
+        }
+
+    }
+
+    // Reads array of lines joined with newlines, but writes them as a single string.
+    public static final class LinesAdapter extends com.squareup.moshi.JsonAdapter<String> {
+
+        @Override
+        public String fromJson(final @NotNull JsonReader in) throws IOException {
+            final StringBuilder builder = new StringBuilder();
+            // ...
+            in.beginArray();
+            while (in.hasNext() == true) {
+                if (builder.isEmpty() == false)
+                    builder.append('\n');
+                builder.append(in.nextString());
+            }
+            in.endArray();
+            // ...
+            return builder.toString();
+        }
+
+        @Override
+        public void toJson(final @NotNull JsonWriter out, final String value) throws IOException {
+            out.value(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,200 @@
+package cloud.grabsky.configuration.tests.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import com.squareup.moshi.Moshi;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestQ {
+
+    @Test
+    public void checkExecutors(final @TempDir Path directory) throws IOException, ExecutionException, InterruptedException {
+        final File file = directory.resolve("executors.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"first\": \"A\", \"second\": \"A\" }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+
+        final ExecutorService collectExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "collect"));
+        final ExecutorService commitExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "commit"));
+
+        try {
+            mapper.setExecutor(collectExecutor);
+
+            // Values should be inserted and #onReload should be called on the commit executor
+            mapper.mapAsync(commitExecutor, ConfigurationHolder.of(Executed.class, file)).get();
+
+            assertEquals("A", Executed.FIRST);
+            assertEquals("commit", Executed.THREAD);
+
+            // Instances should be created on the executor of the mapper
+            assertEquals(new Instance("A"), mapper.mapInstanceAsync(Instance.class, file).get());
+            assertEquals("collect", Instance.THREAD);
+        } finally {
+            collectExecutor.shutdown();
+            commitExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void checkFailure(final @TempDir Path directory) throws IOException, ConfigurationMappingException, InterruptedException {
+        final File first = directory.resolve("first.json").toFile();
+        final File second = directory.resolve("second.json").toFile();
+
+        Files.writeString(first.toPath(), "{ \"first\": \"A\", \"second\": \"A\" }");
+        Files.writeString(second.toPath(), "{ \"first\": \"B\", \"second\": \"B\" }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+
+        mapper.map(ConfigurationHolder.of(Failed.class, first), ConfigurationHolder.of(Other.class, second));
+
+        // Changing the first file and breaking the second one
+        Files.writeString(first.toPath(), "{ \"first\": \"C\", \"second\": \"C\" }");
+        Files.writeString(second.toPath(), "{ \"first\": \"D\" }");
+
+        final CompletableFuture<Void> future = mapper.mapAsync(Runnable::run, ConfigurationHolder.of(Failed.class, first), ConfigurationHolder.of(Other.class, second));
+
+        // Future should complete exceptionally with the exception thrown by the mapper
+        final ExecutionException error = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(ConfigurationMappingException.class, error.getCause());
+
+        // All fields should remain unchanged, including these of the valid file
+        assertEquals("A", Failed.FIRST);
+        assertEquals("A", Failed.SECOND);
+        assertEquals("B", Other.FIRST);
+        assertEquals("B", Other.SECOND);
+        assertEquals(1, Failed.RELOADS);
+
+        // Instance of the broken file should not be created
+        final ExecutionException instanceError = assertThrows(ExecutionException.class, () -> mapper.mapInstanceAsync(Instance.class, directory.resolve("missing.json").toFile()).get());
+        assertInstanceOf(ConfigurationMappingException.class, instanceError.getCause());
+    }
+
+    @Test
+    public void checkConcurrentInsert(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File first = directory.resolve("first.json").toFile();
+        final File second = directory.resolve("second.json").toFile();
+
+        Files.writeString(first.toPath(), "{ \"first\": \"A\", \"second\": \"A\" }");
+        Files.writeString(second.toPath(), "{ \"first\": \"B\", \"second\": \"B\" }");
+
+        final ConfigurationMapper mapper = ConfigurationMapper.create(new Moshi.Builder().build());
+        final ExecutorService commitExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "commit"));
+
+        try {
+            // Mapping both files to the same class at the same time, from the calling thread and from the commit executor
+            for (int i = 0; i < 200; i++) {
+                final CompletableFuture<Void> future = mapper.mapAsync(commitExecutor, ConfigurationHolder.of(Concurrent.class, second));
+                mapper.map(ConfigurationHolder.of(Concurrent.class, first));
+                future.join();
+            }
+        } finally {
+            commitExecutor.shutdown();
+        }
+
+        // Values of both files should never be mixed, and #onReload should never be called concurrently
+        assertEquals(0, Concurrent.MIXED.get());
+        assertEquals(0, Concurrent.OVERLAPPING.get());
+    }
+
+    public static final class Executed implements JsonConfiguration {
+
+        @JsonPath("first")
+        public static String FIRST;
+
+        @JsonPath("second")
+        public static String SECOND;
+
+        public static String THREAD;
+
+        @Override
+        public void onReload() {
+            THREAD = Thread.currentThread().getName();
+        }
+
+    }
+
+    public record Instance(@JsonPath("first") String first) {
+
+        public static String THREAD;
+
+        public Instance {
+            THREAD = Thread.currentThread().getName();
+        }
+
+    }
+
+    public static final class Failed implements JsonConfiguration {
+
+        @JsonPath("first")
+        public static String FIRST;
+
+        @JsonPath("second")
+        public static String SECOND;
+
+        public static int RELOADS = 0;
+
+        @Override
+        public void onReload() {
+            RELOADS++;
+        }
+
+    }
+
+    public static final class Other implements JsonConfiguration {
+
+        @JsonPath("first")
+        public static String FIRST;
+
+        @JsonPath("second")
+        public static String SECOND;
+
+    }
+
+    public static final class Concurrent implements JsonConfiguration {
+
+        @JsonPath("first")
+        public static String FIRST;
+
+        @JsonPath("second")
+        public static String SECOND;
+
+        public static final AtomicInteger MIXED = new AtomicInteger();
+
+        public static final AtomicInteger OVERLAPPING = new AtomicInteger();
+
+        private static final AtomicInteger RUNNING = new AtomicInteger();
+
+        @Override
+        public void onReload() {
+            if (RUNNING.incrementAndGet() != 1)
+                OVERLAPPING.incrementAndGet();
+            // Giving the other thread a chance to run in the meantime
+            Thread.yield();
+            // ...
+            if (FIRST.equals(SECOND) == false)
+                MIXED.incrementAndGet();
+            RUNNING.decrementAndGet();
+        }
+
+    }
+
+}
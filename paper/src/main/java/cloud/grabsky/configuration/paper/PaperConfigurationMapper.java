@@ -23,7 +23,10 @@
  */
 package cloud.grabsky.configuration.paper;
 
+import cloud.grabsky.configuration.ConfigurationHolder;
 import cloud.grabsky.configuration.ConfigurationMapper;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.SnapshotStore;
 import cloud.grabsky.configuration.adapter.AbstractEnumJsonAdapter;
 import cloud.grabsky.configuration.paper.adapter.ComponentAdapter;
 import cloud.grabsky.configuration.paper.adapter.EnchantmentAdapterFactory;
@@ -31,23 +34,35 @@ import cloud.grabsky.configuration.paper.adapter.EnchantmentEntryAdapterFactory;
 import cloud.grabsky.configuration.paper.adapter.EntityTypeAdapterFactory;
 import cloud.grabsky.configuration.paper.adapter.ItemFlagAdapter;
 import cloud.grabsky.configuration.paper.adapter.ItemStackAdapterFactory;
+import cloud.grabsky.configuration.paper.adapter.ItemTemplateAdapterFactory;
+import cloud.grabsky.configuration.paper.adapter.LazyComponentAdapter;
 import cloud.grabsky.configuration.paper.adapter.MaterialAdapterFactory;
+import cloud.grabsky.configuration.paper.adapter.MessageTemplateAdapter;
 import cloud.grabsky.configuration.paper.adapter.NamespacedKeyAdapter;
 import cloud.grabsky.configuration.paper.adapter.PersistentDataEntryAdapterFactory;
 import cloud.grabsky.configuration.paper.adapter.PersistentDataTypeAdapterFactory;
 import cloud.grabsky.configuration.paper.adapter.SoundAdapterFactory;
 import cloud.grabsky.configuration.paper.adapter.SoundSourceAdapter;
 import cloud.grabsky.configuration.paper.adapter.WorldAdapterFactory;
+import cloud.grabsky.configuration.paper.codec.ComponentCodec;
+import cloud.grabsky.configuration.paper.codec.ItemStackCodec;
+import cloud.grabsky.configuration.paper.object.LazyComponent;
+import cloud.grabsky.configuration.paper.object.MessageTemplate;
 import com.squareup.moshi.Moshi;
 import net.kyori.adventure.sound.Sound;
 import net.kyori.adventure.text.Component;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemRarity;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 public final class PaperConfigurationMapper extends ConfigurationMapper {
@@ -73,6 +88,8 @@ public final class PaperConfigurationMapper extends ConfigurationMapper {
         // adapters
         builder.add(Component.class, ComponentAdapter.INSTANCE);
         builder.add(ItemFlag.class, ItemFlagAdapter.INSTANCE);
+        builder.add(LazyComponent.class, LazyComponentAdapter.INSTANCE);
+        builder.add(MessageTemplate.class, MessageTemplateAdapter.INSTANCE);
         builder.add(NamespacedKey.class, NamespacedKeyAdapter.INSTANCE);
         builder.add(Sound.Source.class, SoundSourceAdapter.INSTANCE);
         // adapter factories
@@ -80,6 +97,7 @@ public final class PaperConfigurationMapper extends ConfigurationMapper {
         builder.add(EnchantmentEntryAdapterFactory.INSTANCE);
         builder.add(EntityTypeAdapterFactory.INSTANCE);
         builder.add(ItemStackAdapterFactory.INSTANCE);
+        builder.add(ItemTemplateAdapterFactory.INSTANCE);
         builder.add(MaterialAdapterFactory.INSTANCE);
         builder.add(PersistentDataEntryAdapterFactory.INSTANCE);
         builder.add(PersistentDataTypeAdapterFactory.INSTANCE);
@@ -94,4 +112,29 @@ public final class PaperConfigurationMapper extends ConfigurationMapper {
         return new PaperConfigurationMapper(builder.build());
     }
 
+    /**
+     * Enables snapshots of mapped values, stored in provided directory. Values of {@link ItemStack} and {@link Component} types are supported,
+     * in addition to types supported by {@link SnapshotStore} by default.
+     *
+     * @param directory directory to store snapshots in, eg. inside data folder of the plugin.
+     * @see #setSnapshotStore(SnapshotStore)
+     */
+    public void setSnapshotDirectory(final @NotNull Path directory) {
+        this.setSnapshotStore(SnapshotStore.create(directory, ItemStackCodec.INSTANCE, ComponentCodec.INSTANCE));
+    }
+
+    /**
+     * Maps contents of all files asynchronously. Files are read and parsed off the main thread, then values
+     * are inserted and {@link JsonConfiguration#onReload()} is called on the main thread.
+     *
+     * @param plugin {@link Plugin} used to schedule tasks on the main thread.
+     * @param holders vararg of {@link ConfigurationHolder} instances
+     * @return {@link CompletableFuture} which completes after values are inserted.
+     * @see #mapAsync(Executor, ConfigurationHolder[])
+     */
+    @SafeVarargs
+    public final @NotNull CompletableFuture<Void> mapAsync(final @NotNull Plugin plugin, final @NotNull ConfigurationHolder<? extends JsonConfiguration>... holders) {
+        return this.mapAsync(plugin.getServer().getScheduler().getMainThreadExecutor(plugin), holders);
+    }
+
 }
@@ -23,30 +23,54 @@
  */
 package cloud.grabsky.configuration.paper.adapter;
 
+import cloud.grabsky.configuration.util.BoundedCache;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
 import com.squareup.moshi.JsonReader;
 import com.squareup.moshi.JsonReader.Token;
 import com.squareup.moshi.JsonWriter;
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Converts {@link String} or {@link String String[]} to {@link Component} using provided function.
+ * Parsed components can optionally be cached, keyed by the raw input.
  */
-@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
 public final class ComponentAdapter extends JsonAdapter<Component> {
     /* DEFAULT */ public static final ComponentAdapter INSTANCE = new ComponentAdapter(MiniMessage.miniMessage());
 
     private final MiniMessage miniMessage;
 
+    // Parsed components, by their raw input. String for single strings and List<String> for arrays. Null if caching is disabled.
+    @Getter(AccessLevel.PUBLIC)
+    private final @Nullable BoundedCache<Object, Component> cache;
+
+    public ComponentAdapter(final @NotNull MiniMessage miniMessage) {
+        this.miniMessage = miniMessage;
+        this.cache = null;
+    }
+
+    /**
+     * Creates {@link ComponentAdapter} which caches up to {@code cacheSize} parsed components. Cached components are immutable and shared.
+     *
+     * @param miniMessage {@link MiniMessage} instance used to parse components.
+     * @param cacheSize maximum number of cached components.
+     */
+    public ComponentAdapter(final @NotNull MiniMessage miniMessage, final int cacheSize) {
+        this.miniMessage = miniMessage;
+        this.cache = new BoundedCache<>(cacheSize);
+    }
+
     @Override
     public Component fromJson(final @NotNull JsonReader in) throws IOException {
         return switch (in.peek()) {
@@ -56,9 +80,17 @@ public final class ComponentAdapter extends JsonAdapter<Component> {
                 if ("".equals(text) == true)
                     yield Component.empty();
                 // Parsing and returning
-                yield miniMessage.deserialize(text).compact();
+                yield (cache != null)
+                        ? cache.get(text, (ignored) -> miniMessage.deserialize(text).compact())
+                        : miniMessage.deserialize(text).compact();
             }
             case BEGIN_ARRAY -> {
+                // Collecting lines first, so they can be joined only when the result is not cached
+                if (cache != null) {
+                    final List<String> lines = readLines(in);
+                    // ...
+                    yield cache.get(lines, (ignored) -> miniMessage.deserialize(join(lines)).compact());
+                }
                 final StringBuilder builder = new StringBuilder();
                 // ...
                 in.beginArray();
@@ -86,7 +118,50 @@ public final class ComponentAdapter extends JsonAdapter<Component> {
     }
 
     @Override
-    public void toJson(final @NotNull JsonWriter out, final Component value) {
-        throw new UnsupportedOperationException("NOT IMPLEMENTED");
+    public void toJson(final @NotNull JsonWriter out, final Component value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        // ...
+        writeLines(out, miniMessage.serialize(value));
     }
+
+    /* STATIC HELPERS */
+
+    // Reads array of strings into a list.
+    static @NotNull List<String> readLines(final @NotNull JsonReader in) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        // ...
+        in.beginArray();
+        // ...
+        while (in.hasNext() == true && in.peek() == Token.STRING)
+            lines.add(in.nextString());
+        // ...
+        in.endArray();
+        // ...
+        return lines;
+    }
+
+    // Writes provided text as a single string, or as an array of lines if it contains lines joined by #join method.
+    static void writeLines(final @NotNull JsonWriter out, final @NotNull String text) throws IOException {
+        final String[] lines = text.split("<newline><reset>", -1);
+        // ...
+        if (lines.length == 1) {
+            out.value(text);
+            return;
+        }
+        out.beginArray();
+        // ...
+        for (final String line : lines)
+            out.value(line);
+        // ...
+        out.endArray();
+    }
+
+    // Joins lines with MiniMessage newlines, the same way arrays are joined when read directly.
+    static @NotNull String join(final @NotNull List<String> lines) {
+        return String.join("<newline><reset>", lines);
+    }
+
 }
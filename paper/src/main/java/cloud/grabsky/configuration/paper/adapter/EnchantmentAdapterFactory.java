@@ -23,6 +23,7 @@
  */
 package cloud.grabsky.configuration.paper.adapter;
 
+import cloud.grabsky.configuration.paper.util.RegistryCache;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
 import com.squareup.moshi.JsonReader;
@@ -64,7 +65,7 @@ public final class EnchantmentAdapterFactory implements JsonAdapter.Factory {
                 final NamespacedKey key = adapter.fromJson(in);
                 // ...
                 if (key != null) {
-                    final Enchantment enchantment = Registry.ENCHANTMENT.get(key);
+                    final Enchantment enchantment = RegistryCache.get(Registry.ENCHANTMENT, key);
                     // ...
                     if (enchantment != null)
                         return enchantment;
@@ -73,8 +74,13 @@ public final class EnchantmentAdapterFactory implements JsonAdapter.Factory {
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final Enchantment value) {
-                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            public void toJson(final @NotNull JsonWriter out, final Enchantment value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                // ...
+                adapter.toJson(out, value.getKey());
             }
 
         };
@@ -78,8 +78,18 @@ public final class EnchantmentEntryAdapterFactory implements JsonAdapter.Factory
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final EnchantmentEntry value) {
-                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            public void toJson(final @NotNull JsonWriter out, final EnchantmentEntry value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject();
+                // ...
+                out.name("key");
+                adapter.toJson(out, value.getEnchantment());
+                out.name("level").value(value.getLevel());
+                // ...
+                out.endObject();
             }
 
         };
@@ -23,6 +23,7 @@
  */
 package cloud.grabsky.configuration.paper.adapter;
 
+import cloud.grabsky.configuration.paper.util.RegistryCache;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
 import com.squareup.moshi.JsonReader;
@@ -64,7 +65,7 @@ public final class EntityTypeAdapterFactory implements JsonAdapter.Factory {
                 final NamespacedKey key = adapter.fromJson(in);
                 // ...
                 if (key != null) {
-                    final EntityType entity = Registry.ENTITY_TYPE.get(key);
+                    final EntityType entity = RegistryCache.get(Registry.ENTITY_TYPE, key);
                     // ...
                     if (entity != null)
                         return entity;
@@ -73,8 +74,13 @@ public final class EntityTypeAdapterFactory implements JsonAdapter.Factory {
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final EntityType value) {
-                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            public void toJson(final @NotNull JsonWriter out, final EntityType value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                // ...
+                adapter.toJson(out, value.getKey());
             }
 
         };
@@ -23,413 +23,820 @@
  */
 package cloud.grabsky.configuration.paper.adapter;
 
+import cloud.grabsky.configuration.MappingContext;
 import cloud.grabsky.configuration.paper.object.EnchantmentEntry;
 import cloud.grabsky.configuration.paper.object.PersistentDataEntry;
-import cloud.grabsky.configuration.util.LazyInit;
-import com.destroystokyo.paper.profile.PlayerProfile;
+import cloud.grabsky.configuration.util.BoundedCache;
 import com.destroystokyo.paper.profile.ProfileProperty;
-import com.squareup.moshi.Json;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
 import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonReader.Options;
+import com.squareup.moshi.JsonReader.Token;
 import com.squareup.moshi.JsonWriter;
 import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+import io.papermc.paper.datacomponent.DataComponentType;
 import io.papermc.paper.datacomponent.DataComponentTypes;
 import io.papermc.paper.datacomponent.item.Consumable;
 import io.papermc.paper.datacomponent.item.CustomModelData;
 import io.papermc.paper.datacomponent.item.Equippable;
 import io.papermc.paper.datacomponent.item.FoodProperties;
+import io.papermc.paper.datacomponent.item.ItemEnchantments;
 import io.papermc.paper.datacomponent.item.ItemLore;
 import io.papermc.paper.datacomponent.item.ResolvableProfile;
 import io.papermc.paper.datacomponent.item.consumable.ItemUseAnimation;
 import io.papermc.paper.registry.RegistryKey;
 import io.papermc.paper.registry.set.RegistrySet;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.format.TextDecoration;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ByteString;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.EntityType;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemRarity;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.ItemType;
-import org.bukkit.inventory.meta.Damageable;
-import org.bukkit.inventory.meta.EnchantmentStorageMeta;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.inventory.meta.SkullMeta;
-import org.bukkit.inventory.meta.components.FoodComponent;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
-import lombok.val;
 
 import static com.squareup.moshi.Types.getRawType;
 import static net.kyori.adventure.text.Component.empty;
 
 /**
  * Creates {@link JsonAdapter JsonAdapter&lt;ItemStack&gt;} which converts JSON object to {@link ItemStack}.
+ * Values are applied to the item as they are read. When used by {@link cloud.grabsky.configuration.ConfigurationMapper ConfigurationMapper},
+ * identical definitions found during the same mapping run are built only once and copied using {@link ItemStack#clone()}.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ItemStackAdapterFactory implements JsonAdapter.Factory {
     /* SINGLETON */ public static final ItemStackAdapterFactory INSTANCE = new ItemStackAdapterFactory();
 
+    // Number of items built from their definitions.
+    private final LongAdder builds = new LongAdder();
+
+    // Number of items copied from identical definition built earlier during the same mapping run.
+    private final LongAdder reuses = new LongAdder();
+
+    // Profiles of player heads, by value of 'skull_texture' property. Profiles are immutable and shared between all items.
+    private static final BoundedCache<String, ResolvableProfile> PROFILES = new BoundedCache<>(4096);
+
+    /**
+     * Returns number of items built from their definitions.
+     */
+    public long getBuilds() {
+        return builds.sum();
+    }
+
+    /**
+     * Returns number of items which were not built, because identical definition was already built during the same mapping run.
+     */
+    public long getReuses() {
+        return reuses.sum();
+    }
+
+    /**
+     * Returns cache of player head profiles, by value of {@code skull_texture} property.
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    public @NotNull BoundedCache<String, ResolvableProfile> getProfileCache() {
+        return PROFILES;
+    }
+
+    /**
+     * Resets statistics returned by {@link #getBuilds()} and {@link #getReuses()}.
+     */
+    public void resetStatistics() {
+        builds.reset();
+        reuses.reset();
+    }
+
     @Override
     public @Nullable JsonAdapter<ItemStack> create(final @NotNull Type type, final @NotNull Set<? extends Annotation> annotations, final @NotNull Moshi moshi) {
         if (ItemStack.class.isAssignableFrom(getRawType(type)) == false)
             return null;
         // ...
-        final var adapter = moshi.adapter(ItemStackSurrogate.class).nullSafe();
+        final ItemStackReader adapter = new ItemStackReader(moshi);
         // ...
         return new JsonAdapter<>() {
 
             @Override
             public ItemStack fromJson(final @NotNull JsonReader in) throws IOException {
-                // Reading ItemStackSurrogate from JSON.
-                final @Nullable ItemStackSurrogate surrogate = adapter.nullSafe().fromJson(in);
-                // Throwing exception if surrogate is null.
-                if (surrogate == null)
-                    throw new JsonDataException("Invalid ItemStack definition found at " + in.getPath() + " path.");
-                // Initializing the surrogate.
-                return surrogate.init();
+                final @Nullable MappingContext context = MappingContext.current();
+                // Reading and building the item directly when used outside of ConfigurationMapper.
+                if (context == null) {
+                    builds.increment();
+                    return adapter.fromJson(in);
+                }
+                final String path = in.getPath();
+                // Throwing exception if definition is null.
+                if (in.peek() == Token.NULL) {
+                    in.nextNull();
+                    throw new JsonDataException("Invalid ItemStack definition found at " + path + " path.");
+                }
+                // Copying raw bytes of the definition, which are then used as a key of already built items. Nothing is parsed until item has to be built.
+                final Buffer definition = new Buffer();
+                try (final BufferedSource source = in.nextSource()) {
+                    definition.writeAll(source);
+                }
+                final ByteString key = definition.snapshot();
+                // Getting items built during this mapping run.
+                final ItemCache cache = context.getAttribute(ItemCache.class, ItemCache::new);
+                // Copying identical item if it was built already.
+                final @Nullable ItemStack existing = cache.get(key);
+                if (existing != null) {
+                    reuses.increment();
+                    return existing.clone();
+                }
+                // Building the item from copied definition. Paths of values are relative to the definition, so they are prefixed with its path.
+                final ItemStack item;
+                try (final JsonReader reader = JsonReader.of(definition)) {
+                    reader.setLenient(in.isLenient());
+                    builds.increment();
+                    item = adapter.fromJson(reader);
+                } catch (final JsonDataException error) {
+                    throw new JsonDataException("Invalid ItemStack definition found at " + path + " path: " + error.getMessage(), error);
+                }
+                // Storing the item, so it is never modified by the caller. Item stored by another thread in the meantime is equal, so it does not matter which one is kept.
+                cache.putIfAbsent(key, item);
+                // ...
+                return item.clone();
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final ItemStack value) {
-                throw new UnsupportedOperationException("NOT_IMPLEMENTED");
+            public void toJson(final @NotNull JsonWriter out, final ItemStack value) throws IOException {
+                adapter.toJson(out, value);
             }
 
         };
     }
 
+    /* STATIC HELPERS */
+
+    // Items built during a single mapping run, by raw bytes of their definitions. Stored as an attribute of MappingContext.
+    @Internal
+    private static final class ItemCache extends ConcurrentHashMap<ByteString, ItemStack> { /* EMPTY */ }
+
+    /**
+     * Reads {@link ItemStack} and applies each value as soon as it is read. Data components are set in the same way regardless of the order of keys:
+     * values specified explicitly take precedence over these specified in {@code components}, and values merged with existing data are applied last.
+     * Only persistent data is applied through {@link org.bukkit.inventory.meta.ItemMeta ItemMeta}, so at most one copy of it is made.
+     */
     @Internal
     @SuppressWarnings("UnstableApiUsage")
-    @RequiredArgsConstructor(access = AccessLevel.PUBLIC)
-    private static final class ItemMetaSurrogate {
+    private static final class ItemStackReader extends JsonAdapter<ItemStack> {
 
         private static final UUID EMPTY_UUID = UUID.nameUUIDFromBytes(new byte[0]);
 
-        @Json(name = "name")
-        private final @Nullable Component itemName;
-
-        @Json(name = "custom_name")
-        private final @Nullable Component customName;
-
-        @Json(name = "lore")
-        private final @NotNull Component @Nullable [] lore;
-
-        @Json(name = "rarity")
-        private final @Nullable ItemRarity rarity;
-
-        @Json(name = "custom_model_data")
-        private final @Nullable Integer customModelData;
-
-        @Json(name = "model")
-        private final @Nullable NamespacedKey model;
-
-        @Json(name = "item_flags")
-        private final @NotNull ItemFlag @Nullable [] itemFlags;
-
-        @Json(name = "enchantments")
-        private final @NotNull EnchantmentEntry @Nullable [] enchantments;
-
-        @Json(name = "stored_enchantments")
-        private final @NotNull EnchantmentEntry @Nullable [] storedEnchantments;
-
-        @Json(name = "persistent_data_container")
-        private final @NotNull PersistentDataEntry @Nullable [] persistentDataEntries;
-
-        @Json(name = "skull_texture")
-        private final @Nullable String skullTexture;
-
-        @Json(name = "durability")
-        private final @Nullable Integer durability;
-
-        @Json(name = "food")
-        private final @Nullable FoodComponentContainer food;
-
-        @Json(name = "consumable")
-        private final @Nullable ConsumableComponentContainer consumable;
-
-        @Json(name = "equippable")
-        private final @Nullable EquippableComponentContainer equippable;
-
-        @Json(name = "note_block_sound")
-        private final @Nullable NamespacedKey noteBlockSound;
-
-        @Json(name = "max_stack_size")
-        private final @Nullable Integer maxStackSize;
-
-        @Json(name = "max_damage")
-        private final @Nullable Integer maxDamage;
-
-        @Json(name = "enchantment_glint_override")
-        private final @Nullable Boolean enchantmentGlintOverride;
-
-        @Json(name = "components")
-        private final @Nullable String components;
+        // URL of textures, to which texture hashes are appended.
+        private static final String TEXTURES_URL = "http://textures.minecraft.net/texture/";
+
+        private static final Options MATERIAL = Options.of("material");
+
+        private static final Options ITEM = Options.of("material", "amount", "meta");
+
+        private static final Options META = Options.of(
+                "name", "custom_name", "lore", "rarity", "custom_model_data", "model", "item_flags", "enchantments", "stored_enchantments", "persistent_data_container",
+                "skull_texture", "durability", "food", "consumable", "equippable", "note_block_sound", "max_stack_size", "max_damage", "enchantment_glint_override", "components"
+        );
+
+        private static final Options FOOD = Options.of("nutrition", "saturation", "can_always_eat");
+
+        private static final Options CONSUMABLE = Options.of("consume_seconds", "animation", "sound", "has_consume_particles");
+
+        private static final Options EQUIPPABLE = Options.of("slot", "equip_sound", "asset_id", "allowed_entities", "dispensable", "swappable", "damage_on_hurt", "camera_overlay");
+
+        // Matches URL of the skin inside of decoded textures.
+        private static final Pattern TEXTURE_URL = Pattern.compile("\"url\"\\s*:\\s*\"([^\"]+)\"");
+
+        // Types of persistent data which can be written, in order they are tried in. Each value has exactly one matching type.
+        private static final List<PersistentDataType<?, ?>> PERSISTENT_DATA_TYPES = List.of(
+                PersistentDataType.BYTE, PersistentDataType.SHORT, PersistentDataType.INTEGER, PersistentDataType.LONG, PersistentDataType.FLOAT, PersistentDataType.DOUBLE,
+                PersistentDataType.STRING, PersistentDataType.BYTE_ARRAY, PersistentDataType.INTEGER_ARRAY, PersistentDataType.LONG_ARRAY
+        );
+
+        private final JsonAdapter<Material> materialAdapter;
+        private final JsonAdapter<Component> componentAdapter;
+        private final JsonAdapter<NamespacedKey> keyAdapter;
+        private final JsonAdapter<ItemRarity> rarityAdapter;
+        private final JsonAdapter<ItemFlag> flagAdapter;
+        private final JsonAdapter<EnchantmentEntry> enchantmentAdapter;
+        private final JsonAdapter<PersistentDataEntry> persistentDataAdapter;
+        private final JsonAdapter<EquipmentSlot> slotAdapter;
+        private final JsonAdapter<List<EntityType>> entitiesAdapter;
+
+        private ItemStackReader(final @NotNull Moshi moshi) {
+            this.materialAdapter = moshi.adapter(Material.class);
+            this.componentAdapter = moshi.adapter(Component.class);
+            this.keyAdapter = moshi.adapter(NamespacedKey.class);
+            this.rarityAdapter = moshi.adapter(ItemRarity.class);
+            this.flagAdapter = moshi.adapter(ItemFlag.class);
+            this.enchantmentAdapter = moshi.adapter(EnchantmentEntry.class);
+            this.persistentDataAdapter = moshi.adapter(PersistentDataEntry.class);
+            this.slotAdapter = moshi.adapter(EquipmentSlot.class);
+            this.entitiesAdapter = moshi.adapter(Types.newParameterizedType(List.class, EntityType.class));
+        }
 
-        @SuppressWarnings("unchecked")
-        public @NotNull ItemMeta init(final @NotNull ItemStack item) {
-            // Getting the type of the item. Can be null if the material is not a valid item.
-            final @Nullable ItemType type = item.getType().asItemType();
+        @Override
+        public ItemStack fromJson(final @NotNull JsonReader in) throws IOException {
+            // Throwing exception if definition is null.
+            if (in.peek() != Token.BEGIN_OBJECT) {
+                in.skipValue();
+                throw new JsonDataException("Invalid ItemStack definition found at " + in.getPath() + " path.");
+            }
+            in.beginObject();
+            // Reading material first, as everything else depends on it. Looking ahead only when it is not the first key.
+            final @Nullable Material material = (in.selectName(MATERIAL) == 0) ? materialAdapter.fromJson(in) : this.findMaterial(in);
+            // Throwing exception if material is not specified.
+            if (material == null)
+                throw new JsonDataException("Required value 'material' missing at " + in.getPath());
+            // ...
+            final ItemStack item = new ItemStack(material, 1);
+            // ...
+            while (in.hasNext() == true) {
+                final int index = in.selectName(ITEM);
+                // Skipping unknown keys and null values.
+                if (skip(in, index) == true)
+                    continue;
+                // ...
+                switch (index) {
+                    case 0 -> in.skipValue(); // Material has been read already.
+                    case 1 -> item.setAmount(in.nextInt());
+                    case 2 -> this.readMeta(in, item);
+                }
+            }
+            in.endObject();
+            // ...
+            return item;
+        }
 
-            // Throwing IllegalArgumentException when the type is null.
-            if (type == null)
-                throw new IllegalArgumentException("Specified ItemStack is not a valid item.");
+        @Override
+        public void toJson(final @NotNull JsonWriter out, final ItemStack value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            // ...
+            out.name("material");
+            materialAdapter.toJson(out, value.getType());
+            // Writing amount only when it is different from the default one.
+            if (value.getAmount() != 1)
+                out.name("amount").value(value.getAmount());
+            // Writing meta only for valid items.
+            final @Nullable ItemType type = value.getType().asItemType();
+            if (type != null) {
+                out.name("meta");
+                this.writeMeta(out, value);
+            }
+            out.endObject();
+        }
 
+        // Writes data components which are different from defaults of the item type, using the same keys they are read from. Item flags and 'components' are not written.
+        private void writeMeta(final @NotNull JsonWriter out, final @NotNull ItemStack item) throws IOException {
+            out.beginObject();
             // minecraft:item_name
-            if (itemName != null)
-                item.setData(DataComponentTypes.ITEM_NAME, itemName);
-
+            if (isOverridden(item, DataComponentTypes.ITEM_NAME) == true) {
+                out.name("name");
+                componentAdapter.toJson(out, item.getData(DataComponentTypes.ITEM_NAME));
+            }
             // minecraft:custom_name
-            if (customName != null)
-                item.setData(DataComponentTypes.CUSTOM_NAME, empty().decoration(TextDecoration.ITALIC, false).append(customName));
-
+            if (isOverridden(item, DataComponentTypes.CUSTOM_NAME) == true) {
+                out.name("custom_name");
+                componentAdapter.toJson(out, unwrap(item.getData(DataComponentTypes.CUSTOM_NAME)));
+            }
             // minecraft:lore
-            if (lore != null)
-                item.setData(DataComponentTypes.LORE, ItemLore.lore(Arrays.stream(lore).map(line -> empty().decoration(TextDecoration.ITALIC, false).append(line).compact()).toList()));
-
-            // minecraft:note_block_sound
-            if (noteBlockSound != null)
-                item.setData(DataComponentTypes.NOTE_BLOCK_SOUND, noteBlockSound);
-
+            if (isOverridden(item, DataComponentTypes.LORE) == true) {
+                out.name("lore").beginArray();
+                for (final Component line : item.getData(DataComponentTypes.LORE).lines())
+                    componentAdapter.toJson(out, unwrap(line));
+                out.endArray();
+            }
             // minecraft:rarity
-            if (rarity != null)
-                item.setData(DataComponentTypes.RARITY, rarity);
-
+            if (isOverridden(item, DataComponentTypes.RARITY) == true) {
+                out.name("rarity");
+                rarityAdapter.toJson(out, item.getData(DataComponentTypes.RARITY));
+            }
+            // minecraft:custom_model_data; Only the first float is written, as it is the only one that can be read.
+            if (isOverridden(item, DataComponentTypes.CUSTOM_MODEL_DATA) == true && item.getData(DataComponentTypes.CUSTOM_MODEL_DATA).floats().isEmpty() == false)
+                out.name("custom_model_data").value((int) (float) item.getData(DataComponentTypes.CUSTOM_MODEL_DATA).floats().getFirst());
             // minecraft:item_model
-            if (model != null)
-                item.setData(DataComponentTypes.ITEM_MODEL, model);
-
+            if (isOverridden(item, DataComponentTypes.ITEM_MODEL) == true)
+                out.name("model").value(item.getData(DataComponentTypes.ITEM_MODEL).asString());
+            // minecraft:enchantments
+            if (isOverridden(item, DataComponentTypes.ENCHANTMENTS) == true && item.getData(DataComponentTypes.ENCHANTMENTS).enchantments().isEmpty() == false) {
+                out.name("enchantments");
+                this.writeEnchantments(out, item.getData(DataComponentTypes.ENCHANTMENTS));
+            }
+            // minecraft:stored_enchantments
+            if (isOverridden(item, DataComponentTypes.STORED_ENCHANTMENTS) == true && item.getData(DataComponentTypes.STORED_ENCHANTMENTS).enchantments().isEmpty() == false) {
+                out.name("stored_enchantments");
+                this.writeEnchantments(out, item.getData(DataComponentTypes.STORED_ENCHANTMENTS));
+            }
+            // minecraft:custom_data; Persistent data container is not exposed through data components, so it is read using ItemMeta.
+            if (item.hasItemMeta() == true && item.getItemMeta().getPersistentDataContainer().isEmpty() == false) {
+                out.name("persistent_data_container");
+                this.writePersistentData(out, item.getItemMeta().getPersistentDataContainer());
+            }
+            // minecraft:profile
+            if (isOverridden(item, DataComponentTypes.PROFILE) == true) {
+                final @Nullable String skullTexture = fromProfile(item.getData(DataComponentTypes.PROFILE));
+                // ...
+                if (skullTexture != null)
+                    out.name("skull_texture").value(skullTexture);
+            }
+            // minecraft:damage; Written as remaining durability.
+            if (isOverridden(item, DataComponentTypes.DAMAGE) == true)
+                out.name("durability").value(item.getType().getMaxDurability() - item.getData(DataComponentTypes.DAMAGE));
+            // minecraft:food
+            if (isOverridden(item, DataComponentTypes.FOOD) == true) {
+                final FoodProperties food = item.getData(DataComponentTypes.FOOD);
+                // ...
+                out.name("food").beginObject();
+                out.name("nutrition").value(food.nutrition());
+                out.name("saturation").value((Number) food.saturation());
+                out.name("can_always_eat").value(food.canAlwaysEat());
+                out.endObject();
+            }
+            // minecraft:consumable
+            if (isOverridden(item, DataComponentTypes.CONSUMABLE) == true) {
+                final Consumable consumable = item.getData(DataComponentTypes.CONSUMABLE);
+                // ...
+                out.name("consumable").beginObject();
+                out.name("consume_seconds").value((Number) consumable.consumeSeconds());
+                out.name("animation").value(consumable.animation().name().toLowerCase());
+                out.name("sound").value(consumable.sound().asString());
+                out.name("has_consume_particles").value(consumable.hasConsumeParticles());
+                out.endObject();
+            }
+            // minecraft:equippable
+            if (isOverridden(item, DataComponentTypes.EQUIPPABLE) == true)
+                this.writeEquippable(out, item.getData(DataComponentTypes.EQUIPPABLE));
+            // minecraft:note_block_sound
+            if (isOverridden(item, DataComponentTypes.NOTE_BLOCK_SOUND) == true)
+                out.name("note_block_sound").value(item.getData(DataComponentTypes.NOTE_BLOCK_SOUND).asString());
             // minecraft:max_stack_size
-            if (maxStackSize != null)
-                item.setData(DataComponentTypes.MAX_STACK_SIZE, maxStackSize);
-
+            if (isOverridden(item, DataComponentTypes.MAX_STACK_SIZE) == true)
+                out.name("max_stack_size").value(item.getData(DataComponentTypes.MAX_STACK_SIZE));
             // minecraft:max_damage
-            if (maxDamage != null)
-                item.setData(DataComponentTypes.MAX_DAMAGE, maxDamage);
-
+            if (isOverridden(item, DataComponentTypes.MAX_DAMAGE) == true)
+                out.name("max_damage").value(item.getData(DataComponentTypes.MAX_DAMAGE));
             // minecraft:enchantment_glint_override
-            if (enchantmentGlintOverride != null)
-                item.setData(DataComponentTypes.ENCHANTMENT_GLINT_OVERRIDE, enchantmentGlintOverride);
+            if (isOverridden(item, DataComponentTypes.ENCHANTMENT_GLINT_OVERRIDE) == true)
+                out.name("enchantment_glint_override").value(item.getData(DataComponentTypes.ENCHANTMENT_GLINT_OVERRIDE));
+            // ...
+            out.endObject();
+        }
 
-            // minecraft:durability
-            if (durability != null)
-                item.setData(DataComponentTypes.DAMAGE, item.getType().getMaxDurability() - Math.max(0, durability));
+        private void writeEnchantments(final @NotNull JsonWriter out, final @NotNull ItemEnchantments enchantments) throws IOException {
+            out.beginArray();
+            for (final Map.Entry<Enchantment, Integer> entry : enchantments.enchantments().entrySet())
+                enchantmentAdapter.toJson(out, new EnchantmentEntry.Init(entry.getKey(), entry.getValue()).init());
+            out.endArray();
+        }
 
-            // minecraft:food
-            if (food != null) {
-                final var component = (type.hasDefaultData(DataComponentTypes.FOOD) == true) ? type.getDefaultData(DataComponentTypes.FOOD).toBuilder() : FoodProperties.food();
-                // Overriding values.
-                if (food.nutrition != null)
-                    component.nutrition(food.nutrition);
-                if (food.saturation != null)
-                    component.saturation(food.saturation);
-                if (food.canAlwaysEat != null)
-                    component.canAlwaysEat(food.canAlwaysEat);
-                // Setting the component.
-                item.setData(DataComponentTypes.FOOD, component);
+        // Writes entries of basic types. Entries of other types cannot be told apart and are skipped.
+        @SuppressWarnings("unchecked")
+        private void writePersistentData(final @NotNull JsonWriter out, final @NotNull PersistentDataContainer container) throws IOException {
+            out.beginArray();
+            for (final NamespacedKey key : container.getKeys()) {
+                for (final PersistentDataType<?, ?> type : PERSISTENT_DATA_TYPES) {
+                    if (container.has(key, type) == false)
+                        continue;
+                    // ...
+                    final PersistentDataEntry.Init entry = new PersistentDataEntry.Init();
+                    entry.key = key;
+                    entry.type = type;
+                    entry.value = container.get(key, (PersistentDataType<?, Object>) type);
+                    // ...
+                    persistentDataAdapter.toJson(out, entry.init());
+                    break;
+                }
             }
+            out.endArray();
+        }
 
-            // minecraft:consumable
-            if (consumable != null) {
-                final var component = (type.hasDefaultData(DataComponentTypes.CONSUMABLE) == true) ? type.getDefaultData(DataComponentTypes.CONSUMABLE).toBuilder() : Consumable.consumable();
-                // Overriding values.
-                if (consumable.consume_seconds != null)
-                    component.consumeSeconds(consumable.consume_seconds);
-                if (consumable.animation != null)
-                    component.animation(ItemUseAnimation.valueOf(consumable.animation.toUpperCase()));
-                if (consumable.sound != null)
-                    component.sound(consumable.sound);
-                if (consumable.hasConsumeParticles != null)
-                    component.hasConsumeParticles(consumable.hasConsumeParticles);
-                // Setting the component.
-                item.setData(DataComponentTypes.CONSUMABLE, component);
+        private void writeEquippable(final @NotNull JsonWriter out, final @NotNull Equippable equippable) throws IOException {
+            out.name("equippable").beginObject();
+            // ...
+            out.name("slot");
+            slotAdapter.toJson(out, equippable.slot());
+            out.name("equip_sound").value(equippable.equipSound().asString());
+            if (equippable.assetId() != null)
+                out.name("asset_id").value(equippable.assetId().asString());
+            if (equippable.allowedEntities() != null) {
+                out.name("allowed_entities").beginArray();
+                for (final var key : equippable.allowedEntities().values())
+                    out.value(key.key().asString());
+                out.endArray();
             }
+            out.name("dispensable").value(equippable.dispensable());
+            out.name("swappable").value(equippable.swappable());
+            out.name("damage_on_hurt").value(equippable.damageOnHurt());
+            if (equippable.cameraOverlay() != null)
+                out.name("camera_overlay").value(equippable.cameraOverlay().asString());
+            // ...
+            out.endObject();
+        }
 
-            // minecraft:equippable
-            if (equippable != null) {
-                final var component = (type.hasDefaultData(DataComponentTypes.EQUIPPABLE) == true) ? type.getDefaultData(DataComponentTypes.EQUIPPABLE).toBuilder() : Equippable.equippable(equippable.slot);
-                // Overriding values.
-                if (equippable.equipSound != null)
-                    component.equipSound(equippable.equipSound);
-                if (equippable.assetId != null)
-                    component.assetId(equippable.assetId);
-                if (equippable.allowedEntities != null)
-                    component.allowedEntities(RegistrySet.keySetFromValues(RegistryKey.ENTITY_TYPE, equippable.allowedEntities));
-                if (equippable.dispensable != null)
-                    component.dispensable(equippable.dispensable);
-                if (equippable.swappable != null)
-                    component.swappable(equippable.swappable);
-                if (equippable.damageOnHurt != null)
-                    component.damageOnHurt(equippable.damageOnHurt);
-                if (equippable.cameraOverlay != null)
-                    component.cameraOverlay(equippable.cameraOverlay);
-                // Setting the component.
-                item.setData(DataComponentTypes.EQUIPPABLE, component);
+        // Finds and reads material without consuming anything from provided reader.
+        private @Nullable Material findMaterial(final @NotNull JsonReader in) throws IOException {
+            try (final JsonReader peeked = in.peekJson()) {
+                while (peeked.hasNext() == true) {
+                    if (peeked.selectName(MATERIAL) == 0)
+                        return materialAdapter.fromJson(peeked);
+                    // ...
+                    peeked.skipName();
+                    peeked.skipValue();
+                }
             }
+            return null;
+        }
 
-            // minecraft:profile
-            if (skullTexture != null) {
-                // Setting textures based on specified value.
-                final String textures = (skullTexture.startsWith("http") == true)
-                        ? Base64.getEncoder().encodeToString(
-                                String.format("""
-                                    {
-                                        "textures": {
-                                            "SKIN": { "url": "%s" }
-                                        }
-                                    }
-                                    """, skullTexture).trim().getBytes())
-                        : skullTexture;
-                // Setting the component.
-                item.setData(DataComponentTypes.PROFILE, ResolvableProfile.resolvableProfile()
-                        .name(null)
-                        .uuid(EMPTY_UUID)
-                        .addProperty(new ProfileProperty("textures", textures))
-                );
+        @SuppressWarnings("unchecked")
+        private void readMeta(final @NotNull JsonReader in, final @NotNull ItemStack item) throws IOException {
+            // Getting the type of the item. Can be null if the material is not a valid item.
+            final @Nullable ItemType type = item.getType().asItemType();
+            // Throwing IllegalArgumentException when the type is null.
+            if (type == null)
+                throw new IllegalArgumentException("Specified ItemStack is not a valid item.");
+            // ...
+            final Target target = new Target(item);
+            // Values merged with existing data, applied after all other data components.
+            @Nullable Integer customModelData = null;
+            @Nullable List<EnchantmentEntry> enchantments = null;
+            @Nullable List<EnchantmentEntry> storedEnchantments = null;
+            @Nullable List<PersistentDataEntry> persistentDataEntries = null;
+            // ...
+            in.beginObject();
+            while (in.hasNext() == true) {
+                final int index = in.selectName(META);
+                // Skipping unknown keys and null values.
+                if (skip(in, index) == true)
+                    continue;
+                // ...
+                switch (index) {
+                    // minecraft:item_name
+                    case 0 -> target.set(DataComponentTypes.ITEM_NAME, componentAdapter.fromJson(in));
+                    // minecraft:custom_name
+                    case 1 -> target.set(DataComponentTypes.CUSTOM_NAME, empty().decoration(TextDecoration.ITALIC, false).append(componentAdapter.fromJson(in)));
+                    // minecraft:lore
+                    case 2 -> {
+                        final List<Component> lines = new ArrayList<>();
+                        in.beginArray();
+                        while (in.hasNext() == true) {
+                            final @Nullable Component line = componentAdapter.fromJson(in);
+                            if (line != null)
+                                lines.add(empty().decoration(TextDecoration.ITALIC, false).append(line).compact());
+                        }
+                        in.endArray();
+                        target.set(DataComponentTypes.LORE, ItemLore.lore(lines));
+                    }
+                    // minecraft:rarity
+                    case 3 -> target.set(DataComponentTypes.RARITY, rarityAdapter.fromJson(in));
+                    // minecraft:custom_model_data
+                    case 4 -> customModelData = in.nextInt();
+                    // minecraft:item_model
+                    case 5 -> target.set(DataComponentTypes.ITEM_MODEL, keyAdapter.fromJson(in));
+                    // Item flags are read to validate them, but are not applied to the item.
+                    case 6 -> {
+                        in.beginArray();
+                        while (in.hasNext() == true)
+                            flagAdapter.fromJson(in);
+                        in.endArray();
+                    }
+                    // minecraft:enchantments
+                    case 7 -> enchantments = readList(in, enchantmentAdapter);
+                    // minecraft:stored_enchantments
+                    case 8 -> storedEnchantments = readList(in, enchantmentAdapter);
+                    // minecraft:custom_data
+                    case 9 -> persistentDataEntries = readList(in, persistentDataAdapter);
+                    // minecraft:profile
+                    case 10 -> target.set(DataComponentTypes.PROFILE, PROFILES.get(in.nextString(), ItemStackReader::toProfile));
+                    // minecraft:durability
+                    case 11 -> target.set(DataComponentTypes.DAMAGE, item.getType().getMaxDurability() - Math.max(0, in.nextInt()));
+                    // minecraft:food
+                    case 12 -> target.set(DataComponentTypes.FOOD, this.readFood(in, type));
+                    // minecraft:consumable
+                    case 13 -> target.set(DataComponentTypes.CONSUMABLE, this.readConsumable(in, type));
+                    // minecraft:equippable
+                    case 14 -> target.set(DataComponentTypes.EQUIPPABLE, this.readEquippable(in, type));
+                    // minecraft:note_block_sound
+                    case 15 -> target.set(DataComponentTypes.NOTE_BLOCK_SOUND, keyAdapter.fromJson(in));
+                    // minecraft:max_stack_size
+                    case 16 -> target.set(DataComponentTypes.MAX_STACK_SIZE, in.nextInt());
+                    // minecraft:max_damage
+                    case 17 -> target.set(DataComponentTypes.MAX_DAMAGE, in.nextInt());
+                    // minecraft:enchantment_glint_override
+                    case 18 -> target.set(DataComponentTypes.ENCHANTMENT_GLINT_OVERRIDE, in.nextBoolean());
+                    // Components are applied before values specified explicitly, which are then set again.
+                    case 19 -> target.applyComponents(in.nextString());
+                }
             }
-
-            // Getting and modifying the ItemMeta.
-            final ItemMeta meta = item.getItemMeta();
-
+            in.endObject();
+            // minecraft:custom_model_data
             if (customModelData != null)
-                meta.setCustomModelData(customModelData);
-
+                item.setData(DataComponentTypes.CUSTOM_MODEL_DATA, CustomModelData.customModelData().addFloat(customModelData).build());
+            // minecraft:enchantments; Merged with enchantments specified in components.
             if (enchantments != null)
-                for (var entry : enchantments)
-                    meta.addEnchant(entry.getEnchantment(), entry.getLevel(), true);
-
+                item.setData(DataComponentTypes.ENCHANTMENTS, merge(item.getData(DataComponentTypes.ENCHANTMENTS), enchantments));
+            // minecraft:stored_enchantments; Merged with enchantments specified in components.
             if (storedEnchantments != null) {
-                final EnchantmentStorageMeta enchantmentStorageMeta = (EnchantmentStorageMeta) meta;
-                for (var entry : storedEnchantments)
-                    enchantmentStorageMeta.addStoredEnchant(entry.getEnchantment(), entry.getLevel(), true);
+                // Throwing IllegalArgumentException when item cannot store enchantments, eg. is not an enchanted book.
+                if (type.hasDefaultData(DataComponentTypes.STORED_ENCHANTMENTS) == false && item.hasData(DataComponentTypes.STORED_ENCHANTMENTS) == false)
+                    throw new IllegalArgumentException("Specified ItemStack cannot store enchantments.");
+                // ...
+                item.setData(DataComponentTypes.STORED_ENCHANTMENTS, merge(item.getData(DataComponentTypes.STORED_ENCHANTMENTS), storedEnchantments));
             }
-
+            // minecraft:custom_data; Persistent data container is not exposed through data components, so it is edited using a single ItemMeta instance.
             if (persistentDataEntries != null) {
-                final PersistentDataContainer container = meta.getPersistentDataContainer();
-                for (final var entry : persistentDataEntries)
-                    container.set(entry.getKey(), (PersistentDataType<?, Object>) entry.getType(), entry.getValue()); // Cast should be safe assuming serialization was successful
+                final List<PersistentDataEntry> entries = persistentDataEntries;
+                // ...
+                item.editMeta((meta) -> {
+                    final PersistentDataContainer container = meta.getPersistentDataContainer();
+                    for (final var entry : entries)
+                        container.set(entry.getKey(), (PersistentDataType<?, Object>) entry.getType(), entry.getValue()); // Cast should be safe assuming serialization was successful
+                });
             }
-
-            // Returning...
-            return meta;
         }
-    }
-
-    @Internal
-    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-    private static final class ItemStackSurrogate implements LazyInit<ItemStack> {
 
-        @Json(name = "material")
-        private final @NotNull Material material;
-
-        @Json(name = "amount")
-        private final @Nullable Integer amount;
+        private @NotNull FoodProperties readFood(final @NotNull JsonReader in, final @NotNull ItemType type) throws IOException {
+            final var component = (type.hasDefaultData(DataComponentTypes.FOOD) == true) ? type.getDefaultData(DataComponentTypes.FOOD).toBuilder() : FoodProperties.food();
+            // Overriding values.
+            in.beginObject();
+            while (in.hasNext() == true) {
+                final int index = in.selectName(FOOD);
+                // Skipping unknown keys and null values.
+                if (skip(in, index) == true)
+                    continue;
+                // ...
+                switch (index) {
+                    case 0 -> component.nutrition(in.nextInt());
+                    case 1 -> component.saturation((float) in.nextDouble());
+                    case 2 -> component.canAlwaysEat(in.nextBoolean());
+                }
+            }
+            in.endObject();
+            // ...
+            return component.build();
+        }
 
-        @Json(name = "meta")
-        private final @Nullable ItemMetaSurrogate meta;
+        private @NotNull Consumable readConsumable(final @NotNull JsonReader in, final @NotNull ItemType type) throws IOException {
+            final var component = (type.hasDefaultData(DataComponentTypes.CONSUMABLE) == true) ? type.getDefaultData(DataComponentTypes.CONSUMABLE).toBuilder() : Consumable.consumable();
+            // Overriding values.
+            in.beginObject();
+            while (in.hasNext() == true) {
+                final int index = in.selectName(CONSUMABLE);
+                // Skipping unknown keys and null values.
+                if (skip(in, index) == true)
+                    continue;
+                // ...
+                switch (index) {
+                    case 0 -> component.consumeSeconds((float) in.nextDouble());
+                    case 1 -> component.animation(ItemUseAnimation.valueOf(in.nextString().toUpperCase()));
+                    case 2 -> component.sound(keyAdapter.fromJson(in));
+                    case 3 -> component.hasConsumeParticles(in.nextBoolean());
+                }
+            }
+            in.endObject();
+            // ...
+            return component.build();
+        }
 
-        @Override
-        public ItemStack init() {
-            final ItemStack item = new ItemStack(material, (amount != null) ? amount : 1);
+        private @NotNull Equippable readEquippable(final @NotNull JsonReader in, final @NotNull ItemType type) throws IOException {
+            // Builder of types without default component can be created only once slot is known, so values are read first.
+            @Nullable EquipmentSlot slot = null;
+            @Nullable NamespacedKey equipSound = null;
+            @Nullable NamespacedKey assetId = null;
+            @Nullable List<EntityType> allowedEntities = null;
+            @Nullable Boolean dispensable = null;
+            @Nullable Boolean swappable = null;
+            @Nullable Boolean damageOnHurt = null;
+            @Nullable NamespacedKey cameraOverlay = null;
             // ...
-            if (meta != null) {
-                // Applying components if specified.
-                if (meta.components != null)
-                    // In 26.1, Paper changed modifyItemStack method to only accept component string.
-                    if (Bukkit.getUnsafe().getProtocolVersion() >= 775) {
-                        Bukkit.getUnsafe().modifyItemStack(item, meta.components);
-                    } else {
-                        Bukkit.getUnsafe().modifyItemStack(item, item.getType().getKey().asString() + meta.components);
-                    }
-                // Applying other meta.
-                item.setItemMeta(meta.init(item));
+            in.beginObject();
+            while (in.hasNext() == true) {
+                final int index = in.selectName(EQUIPPABLE);
+                // Skipping unknown keys and null values.
+                if (skip(in, index) == true)
+                    continue;
+                // ...
+                switch (index) {
+                    case 0 -> slot = slotAdapter.fromJson(in);
+                    case 1 -> equipSound = keyAdapter.fromJson(in);
+                    case 2 -> assetId = keyAdapter.fromJson(in);
+                    case 3 -> allowedEntities = entitiesAdapter.fromJson(in);
+                    case 4 -> dispensable = in.nextBoolean();
+                    case 5 -> swappable = in.nextBoolean();
+                    case 6 -> damageOnHurt = in.nextBoolean();
+                    case 7 -> cameraOverlay = keyAdapter.fromJson(in);
+                }
             }
+            in.endObject();
+            // Throwing exception if slot is required, but not specified.
+            if (type.hasDefaultData(DataComponentTypes.EQUIPPABLE) == false && slot == null)
+                throw new JsonDataException("Required value 'slot' missing at " + in.getPath());
             // ...
-            return item;
+            final var component = (type.hasDefaultData(DataComponentTypes.EQUIPPABLE) == true) ? type.getDefaultData(DataComponentTypes.EQUIPPABLE).toBuilder() : Equippable.equippable(slot);
+            // Overriding values.
+            if (equipSound != null)
+                component.equipSound(equipSound);
+            if (assetId != null)
+                component.assetId(assetId);
+            if (allowedEntities != null)
+                component.allowedEntities(RegistrySet.keySetFromValues(RegistryKey.ENTITY_TYPE, allowedEntities));
+            if (dispensable != null)
+                component.dispensable(dispensable);
+            if (swappable != null)
+                component.swappable(swappable);
+            if (damageOnHurt != null)
+                component.damageOnHurt(damageOnHurt);
+            if (cameraOverlay != null)
+                component.cameraOverlay(cameraOverlay);
+            // ...
+            return component.build();
         }
-    }
-
 
-    @Internal @AllArgsConstructor(access = AccessLevel.PRIVATE)
-    private static final class FoodComponentContainer {
+        /* STATIC HELPERS */
 
-        @Json(name = "nutrition")
-        private final @Nullable Integer nutrition;
-
-        @Json(name = "saturation")
-        private final @Nullable Float saturation;
-
-        @Json(name = "can_always_eat")
-        private final @Nullable Boolean canAlwaysEat;
+        // Returns true if provided data component is set to a value different from default value of the item type.
+        private static boolean isOverridden(final @NotNull ItemStack item, final @NotNull DataComponentType type) {
+            return item.isDataOverridden(type) == true && item.hasData(type) == true;
+        }
 
-    }
+        // Returns text wrapped in non-italic empty component when it was read, or provided component if it is not wrapped.
+        private static @NotNull Component unwrap(final @NotNull Component component) {
+            if (component instanceof TextComponent text && text.content().isEmpty() == true && text.children().size() == 1 && text.style().equals(Style.style(TextDecoration.ITALIC.withState(false))) == true)
+                return text.children().getFirst();
+            // ...
+            return component;
+        }
 
-    @Internal @AllArgsConstructor(access = AccessLevel.PRIVATE)
-    private static final class ConsumableComponentContainer {
+        // Returns value of 'skull_texture' property describing textures of provided profile. Textures pointing to official texture server are written as texture hashes.
+        private static @Nullable String fromProfile(final @NotNull ResolvableProfile profile) {
+            for (final ProfileProperty property : profile.properties()) {
+                if ("textures".equals(property.getName()) == false)
+                    continue;
+                // Looking for texture URL inside of the decoded value, falling back to Base64 encoded textures.
+                try {
+                    final Matcher matcher = TEXTURE_URL.matcher(new String(Base64.getDecoder().decode(property.getValue())));
+                    // ...
+                    if (matcher.find() == true) {
+                        final String url = matcher.group(1);
+                        // ...
+                        return (url.startsWith(TEXTURES_URL) == true && isTextureHash(url.substring(TEXTURES_URL.length())) == true)
+                                ? url.substring(TEXTURES_URL.length())
+                                : url;
+                    }
+                } catch (final IllegalArgumentException ignored) { /* IGNORED */ }
+                // ...
+                return property.getValue();
+            }
+            return null;
+        }
 
-        @Json(name = "consume_seconds")
-        private final @Nullable Float consume_seconds;
+        // Skips value of unknown key or null value. Returns true if value has been skipped.
+        private static boolean skip(final @NotNull JsonReader in, final int index) throws IOException {
+            if (index == -1) {
+                in.skipName();
+                in.skipValue();
+                return true;
+            }
+            if (in.peek() == Token.NULL) {
+                in.nextNull();
+                return true;
+            }
+            return false;
+        }
 
-        @Json(name = "animation")
-        private final @Nullable String animation;
+        // Merges provided entries with existing enchantments. Levels are limited to 255 and non-positive levels remove the enchantment, the same way as when applied through ItemMeta.
+        private static @NotNull ItemEnchantments merge(final @Nullable ItemEnchantments existing, final @NotNull List<EnchantmentEntry> entries) {
+            final Map<Enchantment, Integer> enchantments = (existing != null) ? new LinkedHashMap<>(existing.enchantments()) : new LinkedHashMap<>();
+            // ...
+            for (final EnchantmentEntry entry : entries) {
+                if (entry.getLevel() > 0)
+                    enchantments.put(entry.getEnchantment(), Math.min(entry.getLevel(), 255));
+                else enchantments.remove(entry.getEnchantment());
+            }
+            // ...
+            return ItemEnchantments.itemEnchantments(enchantments, (existing == null || existing.showInTooltip() == true));
+        }
 
-        @Json(name = "sound")
-        private final @Nullable NamespacedKey sound;
+        // Returns true if provided value is a texture hash, ie. a hexadecimal string which is too short to be Base64 encoded textures.
+        private static boolean isTextureHash(final @NotNull String value) {
+            if (value.length() < 32 || value.length() > 64)
+                return false;
+            // ...
+            for (int i = 0; i < value.length(); i++) {
+                final char ch = value.charAt(i);
+                // ...
+                if ((ch >= '0' && ch <= '9') == false && (ch >= 'a' && ch <= 'f') == false)
+                    return false;
+            }
+            return true;
+        }
 
-        @Json(name = "has_consume_particles")
-        private final @Nullable Boolean hasConsumeParticles;
+        // Reads array of values using provided adapter.
+        private static <T> @NotNull List<T> readList(final @NotNull JsonReader in, final @NotNull JsonAdapter<T> adapter) throws IOException {
+            final List<T> list = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext() == true)
+                list.add(adapter.fromJson(in));
+            in.endArray();
+            return list;
+        }
 
-        // TO-DO: on_consume_effects
+        // Creates profile with textures based on specified value, either texture hash, URL or Base64 encoded textures.
+        private static @NotNull ResolvableProfile toProfile(final @NotNull String value) {
+            // Expanding texture hash to the URL.
+            final String skullTexture = (isTextureHash(value) == true) ? TEXTURES_URL + value : value;
+            // ...
+            final String textures = (skullTexture.startsWith("http") == true)
+                    ? Base64.getEncoder().encodeToString(
+                            String.format("""
+                                {
+                                    "textures": {
+                                        "SKIN": { "url": "%s" }
+                                    }
+                                }
+                                """, skullTexture).trim().getBytes())
+                    : skullTexture;
+            // ...
+            return ResolvableProfile.resolvableProfile()
+                    .name(null)
+                    .uuid(EMPTY_UUID)
+                    .addProperty(new ProfileProperty("textures", textures))
+                    .build();
+        }
 
     }
 
-    @Internal @AllArgsConstructor(access = AccessLevel.PRIVATE)
-    private static final class EquippableComponentContainer {
-
-        @Json(name = "slot")
-        private final @NotNull EquipmentSlot slot;
-
-        @Json(name = "equip_sound")
-        private final @Nullable NamespacedKey equipSound;
-
-        @Json(name = "asset_id")
-        private final @Nullable NamespacedKey assetId;
-
-        @Json(name = "allowed_entities")
-        private final @Nullable List<EntityType> allowedEntities;
+    // Item being read. Remembers data components set before 'components' are applied, so they can be set again afterwards.
+    @Internal
+    @SuppressWarnings("UnstableApiUsage")
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Target {
 
-        @Json(name = "dispensable")
-        private final @Nullable Boolean dispensable;
+        private final @NotNull ItemStack item;
 
-        @Json(name = "swappable")
-        private final @Nullable Boolean swappable;
+        // Data components set so far. Null once 'components' have been applied.
+        private @Nullable List<Runnable> applied = new ArrayList<>();
 
-        @Json(name = "damage_on_hurt")
-        private final @Nullable Boolean damageOnHurt;
+        private <T> void set(final @NotNull DataComponentType.Valued<T> type, final @Nullable T value) {
+            // Skipping null values, the same way as values not specified at all.
+            if (value == null)
+                return;
+            // ...
+            item.setData(type, value);
+            // ...
+            if (applied != null)
+                applied.add(() -> item.setData(type, value));
+        }
 
-        @Json(name = "camera_overlay")
-        private final @Nullable NamespacedKey cameraOverlay;
+        private void applyComponents(final @NotNull String components) {
+            // In 26.1, Paper changed modifyItemStack method to only accept component string.
+            if (Bukkit.getUnsafe().getProtocolVersion() >= 775) {
+                Bukkit.getUnsafe().modifyItemStack(item, components);
+            } else {
+                Bukkit.getUnsafe().modifyItemStack(item, item.getType().getKey().asString() + components);
+            }
+            // Setting values specified explicitly again, so they take precedence over components.
+            if (applied != null)
+                applied.forEach(Runnable::run);
+            // ...
+            applied = null;
+        }
 
     }
 
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.adapter;
+
+import cloud.grabsky.configuration.paper.object.ItemTemplate;
+import cloud.grabsky.configuration.paper.object.MessageTemplate;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonReader.Token;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.squareup.moshi.Types.getRawType;
+
+/**
+ * Creates {@link JsonAdapter JsonAdapter&lt;ItemTemplate&gt;} which converts JSON object to {@link ItemTemplate}.
+ * Item is read using {@link ItemStack} adapter, then name, custom name and lore lines with placeholders are compiled to {@link MessageTemplate MessageTemplates}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public final class ItemTemplateAdapterFactory implements JsonAdapter.Factory {
+    /* DEFAULT */ public static final ItemTemplateAdapterFactory INSTANCE = new ItemTemplateAdapterFactory(MiniMessage.miniMessage(), TagResolver.standard());
+
+    private final MiniMessage miniMessage;
+
+    // Tags known to the MiniMessage instance. All other tags become placeholders.
+    private final TagResolver tags;
+
+    @Override
+    public @Nullable JsonAdapter<ItemTemplate> create(final @NotNull Type type, final @NotNull Set<? extends Annotation> annotations, final @NotNull Moshi moshi) {
+        if (ItemTemplate.class.isAssignableFrom(getRawType(type)) == false)
+            return null;
+        // ...
+        final JsonAdapter<ItemStack> adapter = moshi.adapter(ItemStack.class);
+        final JsonAdapter<Object> values = moshi.adapter(Object.class);
+        // ...
+        return new JsonAdapter<>() {
+
+            @Override
+            public ItemTemplate fromJson(final @NotNull JsonReader in) throws IOException {
+                // Returning null for null values
+                if (in.peek() == Token.NULL)
+                    return in.nextNull();
+                // Reading texts first, as peeked reader becomes invalid once the original one is read.
+                final @Nullable MessageTemplate itemName;
+                final @Nullable MessageTemplate customName;
+                final @Nullable MessageTemplate @Nullable [] lore;
+                try (final JsonReader peeked = in.peekJson()) {
+                    final Texts texts = readTexts(peeked);
+                    itemName = compile(texts.itemName);
+                    customName = compile(texts.customName);
+                    lore = compile(texts.lore);
+                }
+                // Reading the prototype using ItemStack adapter.
+                final @Nullable ItemStack prototype = adapter.fromJson(in);
+                // Throwing exception if prototype is null.
+                if (prototype == null)
+                    throw new JsonDataException("Invalid ItemStack definition found at " + in.getPath() + " path.");
+                // ...
+                return new ItemTemplate(prototype, itemName, customName, lore);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void toJson(final @NotNull JsonWriter out, final ItemTemplate value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                // Converting the prototype to json value, so texts with placeholders can be replaced with their templates.
+                final @Nullable Object definition = adapter.toJsonValue(value.create());
+                // Replacing texts of the prototype, in which placeholders were left unresolved, with raw texts of their templates.
+                if (definition instanceof Map<?, ?> item && item.get("meta") instanceof Map<?, ?> meta) {
+                    final Map<String, Object> texts = (Map<String, Object>) meta;
+                    // ...
+                    if (value.getItemName() != null)
+                        texts.put("name", value.getItemName().getText());
+                    if (value.getCustomName() != null)
+                        texts.put("custom_name", value.getCustomName().getText());
+                    if (value.getLore() != null && texts.get("lore") instanceof List<?> lines && lines.size() == value.getLore().length) {
+                        for (int i = 0; i < lines.size(); i++)
+                            if (value.getLore()[i] != null)
+                                ((List<Object>) lines).set(i, value.getLore()[i].getText());
+                    }
+                }
+                // ...
+                values.toJson(out, definition);
+            }
+
+        };
+    }
+
+    // Compiles provided text, unless it has no placeholders.
+    private @Nullable MessageTemplate compile(final @Nullable String text) {
+        // Skipping texts which cannot contain any tags
+        if (text == null || text.indexOf('<') == -1)
+            return null;
+        // ...
+        final MessageTemplate template = MessageTemplate.compile(text, miniMessage, tags);
+        // ...
+        return (template.getSlots().isEmpty() == false) ? template : null;
+    }
+
+    // Compiles provided lines. Returns null if none of them has placeholders.
+    private @Nullable MessageTemplate @Nullable [] compile(final @Nullable List<String> lines) {
+        if (lines == null)
+            return null;
+        // ...
+        final MessageTemplate[] templates = new MessageTemplate[lines.size()];
+        boolean hasSlots = false;
+        for (int i = 0; i < templates.length; i++) {
+            templates[i] = compile(lines.get(i));
+            hasSlots |= templates[i] != null;
+        }
+        return (hasSlots == true) ? templates : null;
+    }
+
+    /* STATIC HELPERS */
+
+    // Reads raw meta.name, meta.custom_name and meta.lore values. Everything else is skipped and validated later by ItemStack adapter.
+    private static @NotNull Texts readTexts(final @NotNull JsonReader in) throws IOException {
+        final Texts texts = new Texts();
+        // ...
+        if (in.peek() != Token.BEGIN_OBJECT)
+            return texts;
+        // ...
+        in.beginObject();
+        while (in.hasNext() == true) {
+            if ("meta".equals(in.nextName()) == false || in.peek() != Token.BEGIN_OBJECT) {
+                in.skipValue();
+                continue;
+            }
+            in.beginObject();
+            while (in.hasNext() == true) {
+                switch (in.nextName()) {
+                    case "name" -> texts.itemName = readText(in);
+                    case "custom_name" -> texts.customName = readText(in);
+                    case "lore" -> {
+                        if (in.peek() != Token.BEGIN_ARRAY) {
+                            in.skipValue();
+                            continue;
+                        }
+                        texts.lore = new ArrayList<>();
+                        in.beginArray();
+                        while (in.hasNext() == true)
+                            texts.lore.add(readText(in));
+                        in.endArray();
+                    }
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+        in.endObject();
+        // ...
+        return texts;
+    }
+
+    // Reads value the same way ComponentAdapter does. Returns null for values which are not strings or arrays of strings.
+    private static @Nullable String readText(final @NotNull JsonReader in) throws IOException {
+        return switch (in.peek()) {
+            case STRING -> in.nextString();
+            case BEGIN_ARRAY -> ComponentAdapter.join(ComponentAdapter.readLines(in));
+            default -> {
+                in.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    // Raw texts of an item. Fields are null when not specified.
+    private static final class Texts {
+
+        private @Nullable String itemName;
+        private @Nullable String customName;
+        private @Nullable List<String> lore;
+
+    }
+
+}
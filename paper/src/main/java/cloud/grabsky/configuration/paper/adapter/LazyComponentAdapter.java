@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.adapter;
+
+import cloud.grabsky.configuration.paper.object.LazyComponent;
+import cloud.grabsky.configuration.paper.util.MiniMessages;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonReader.Token;
+import com.squareup.moshi.JsonWriter;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Converts {@link String} or {@link String String[]} to {@link LazyComponent}, which is parsed on first access.
+ * Structure of the text is validated upfront, so broken tags still fail the mapping. JSON components are accepted too, but are parsed immediately.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public final class LazyComponentAdapter extends JsonAdapter<LazyComponent> {
+    /* DEFAULT */ public static final LazyComponentAdapter INSTANCE = new LazyComponentAdapter(MiniMessage.miniMessage(), TagResolver.standard());
+
+    private final MiniMessage miniMessage;
+
+    // Tags which are known upfront. Should match tags known to the MiniMessage instance; Other tags are allowed too, eg. to be resolved later.
+    private final TagResolver tags;
+
+    @Override
+    public LazyComponent fromJson(final @NotNull JsonReader in) throws IOException {
+        // Returning null for null values
+        if (in.peek() == Token.NULL)
+            return in.nextNull();
+        // ...
+        final String text = switch (in.peek()) {
+            case STRING -> in.nextString();
+            case BEGIN_ARRAY -> ComponentAdapter.join(ComponentAdapter.readLines(in));
+            // JSON components are parsed right away and converted to MiniMessage text, the same way they are accepted by ComponentAdapter
+            case BEGIN_OBJECT -> miniMessage.serialize(GsonComponentSerializer.gson().deserialize(in.nextSource().readUtf8()));
+            default -> throw new JsonDataException("Expected STRING, BEGIN_ARRAY or BEGIN_OBJECT at " + in.getPath() + " but found: " + in.peek());
+        };
+        // Validating structure of the text, without parsing it
+        try {
+            MiniMessages.validate(text, tags);
+        } catch (final IllegalArgumentException error) {
+            throw new JsonDataException("Expected valid MiniMessage text at " + in.getPath() + ": " + error.getMessage(), error);
+        }
+        // ...
+        return LazyComponent.of(text, miniMessage);
+    }
+
+    @Override
+    public void toJson(final @NotNull JsonWriter out, final LazyComponent value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        // ...
+        out.value(value.getText());
+    }
+
+}
@@ -23,6 +23,7 @@
  */
 package cloud.grabsky.configuration.paper.adapter;
 
+import cloud.grabsky.configuration.paper.util.RegistryCache;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
 import com.squareup.moshi.JsonReader;
@@ -64,7 +65,7 @@ public final class MaterialAdapterFactory implements JsonAdapter.Factory {
                 final NamespacedKey key = adapter.fromJson(in);
                 // ...
                 if (key != null) {
-                    final Material material = Registry.MATERIAL.get(key);
+                    final Material material = RegistryCache.get(Registry.MATERIAL, key);
                     // ...
                     if (material != null)
                         return material;
@@ -73,8 +74,13 @@ public final class MaterialAdapterFactory implements JsonAdapter.Factory {
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final Material value) {
-                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            public void toJson(final @NotNull JsonWriter out, final Material value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                // ...
+                adapter.toJson(out, value.getKey());
             }
 
         };
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.adapter;
+
+import cloud.grabsky.configuration.paper.object.MessageTemplate;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonReader.Token;
+import com.squareup.moshi.JsonWriter;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Converts {@link String} or {@link String String[]} to {@link MessageTemplate}, compiled once when mapped.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public final class MessageTemplateAdapter extends JsonAdapter<MessageTemplate> {
+    /* DEFAULT */ public static final MessageTemplateAdapter INSTANCE = new MessageTemplateAdapter(MiniMessage.miniMessage(), TagResolver.standard());
+
+    private final MiniMessage miniMessage;
+
+    // Tags known to the MiniMessage instance. All other tags become slots.
+    private final TagResolver tags;
+
+    @Override
+    public MessageTemplate fromJson(final @NotNull JsonReader in) throws IOException {
+        // Returning null for null values
+        if (in.peek() == Token.NULL)
+            return in.nextNull();
+        // ...
+        final String text = switch (in.peek()) {
+            case STRING -> in.nextString();
+            case BEGIN_ARRAY -> ComponentAdapter.join(ComponentAdapter.readLines(in));
+            default -> throw new JsonDataException("Expected STRING or BEGIN_ARRAY at " + in.getPath() + " but found: " + in.peek());
+        };
+        // ...
+        return MessageTemplate.compile(text, miniMessage, tags);
+    }
+
+    @Override
+    public void toJson(final @NotNull JsonWriter out, final MessageTemplate value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        // ...
+        out.value(value.getText());
+    }
+
+}
@@ -23,6 +23,7 @@
  */
 package cloud.grabsky.configuration.paper.adapter;
 
+import cloud.grabsky.configuration.paper.util.RegistryCache;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
 import com.squareup.moshi.JsonReader;
@@ -35,7 +36,9 @@ import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
 
 /**
- * Converts {@link String} to {@link NamespacedKey}.
+ * Converts {@link String} to {@link NamespacedKey}. Parsed keys are shared between all occurrences of the same string.
+ *
+ * @see RegistryCache
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class NamespacedKeyAdapter extends JsonAdapter<NamespacedKey> {
@@ -44,14 +47,12 @@ public final class NamespacedKeyAdapter extends JsonAdapter<NamespacedKey> {
     @Override
     public NamespacedKey fromJson(final @NotNull JsonReader in) throws IOException {
         final String value = in.nextString();
-        final String[] parts = value.split(":");
-        // ...
-        if (parts.length < 1 || parts.length > 2)
-            throw new JsonDataException("Expected " + NamespacedKey.class.getName() + " at " + in.getPath() + " but found: " + value);
-        // ...
-        return (parts.length == 1)
-                ? new NamespacedKey(NamespacedKey.MINECRAFT, parts[0]) // defaults to 'minecraft:' namespace
-                : new NamespacedKey(parts[0], parts[1]);
+        // Parsing the key or getting the shared instance parsed previously
+        try {
+            return RegistryCache.key(value);
+        } catch (final IllegalArgumentException error) {
+            throw new JsonDataException("Expected " + NamespacedKey.class.getName() + " at " + in.getPath() + " but found: " + value, error);
+        }
     }
 
     @Override
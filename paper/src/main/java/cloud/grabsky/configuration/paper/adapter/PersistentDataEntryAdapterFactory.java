@@ -84,8 +84,22 @@ public final class PersistentDataEntryAdapterFactory implements JsonAdapter.Fact
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final PersistentDataEntry value) {
-                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            @SuppressWarnings("unchecked")
+            public void toJson(final @NotNull JsonWriter out, final PersistentDataEntry value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject();
+                // Writing properties in the same order they are expected to be read in
+                out.name("key");
+                moshi.adapter(NamespacedKey.class).toJson(out, value.getKey());
+                out.name("type");
+                moshi.adapter(PersistentDataType.class).toJson(out, value.getType());
+                out.name("value");
+                ((JsonAdapter<Object>) moshi.adapter(value.getType().getComplexType())).toJson(out, value.getValue());
+                // ...
+                out.endObject();
             }
 
         };
@@ -87,8 +87,19 @@ public final class PersistentDataTypeAdapterFactory implements JsonAdapter.Facto
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final PersistentDataType<?, ?> value) {
-                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            public void toJson(final @NotNull JsonWriter out, final PersistentDataType<?, ?> value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                // Looking up name of the type; Types are compared by identity, the same way they are registered
+                for (final var entry : internalMap.entrySet()) {
+                    if (entry.getValue() == value) {
+                        out.value(entry.getKey());
+                        return;
+                    }
+                }
+                throw new JsonDataException("Expected one of " + internalMap.keySet() + " at " + out.getPath() + " but found: " + value);
             }
 
         };
@@ -84,8 +84,21 @@ public final class SoundAdapterFactory implements JsonAdapter.Factory {
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final Sound value) {
-                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            public void toJson(final @NotNull JsonWriter out, final Sound value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject();
+                // ...
+                out.name("key").value(value.name().asString());
+                out.name("source");
+                adapter1.toJson(out, value.source());
+                // Writing floats as they are, so they are not widened to imprecise doubles
+                out.name("volume").value((Number) value.volume());
+                out.name("pitch").value((Number) value.pitch());
+                // ...
+                out.endObject();
             }
 
         };
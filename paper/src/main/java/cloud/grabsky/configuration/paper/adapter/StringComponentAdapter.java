@@ -70,8 +70,13 @@ public final class StringComponentAdapter extends JsonAdapter<String> {
     }
 
     @Override
-    public void toJson(final @NotNull JsonWriter out, final String value) {
-        throw new UnsupportedOperationException("NOT IMPLEMENTED");
+    public void toJson(final @NotNull JsonWriter out, final String value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        // ...
+        ComponentAdapter.writeLines(out, value);
     }
 
 }
@@ -73,8 +73,13 @@ public final class WorldAdapterFactory implements JsonAdapter.Factory {
             }
 
             @Override
-            public void toJson(final @NotNull JsonWriter out, final World value) {
-                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            public void toJson(final @NotNull JsonWriter out, final World value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                // ...
+                adapter.toJson(out, value.getKey());
             }
 
         };
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.codec;
+
+import cloud.grabsky.configuration.SnapshotCodec;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes {@link Component} to snapshots as JSON text, so it does not have to be parsed by {@link net.kyori.adventure.text.minimessage.MiniMessage MiniMessage} again.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ComponentCodec implements SnapshotCodec<Component> {
+    /* SINGLETON */ public static final ComponentCodec INSTANCE = new ComponentCodec();
+
+    @Override
+    public @NotNull Class<Component> getType() {
+        return Component.class;
+    }
+
+    @Override
+    public void write(final @NotNull DataOutput out, final @NotNull Component value) throws IOException {
+        SnapshotCodec.writeString(out, GsonComponentSerializer.gson().serialize(value));
+    }
+
+    @Override
+    public @NotNull Component read(final @NotNull DataInput in) throws IOException {
+        return GsonComponentSerializer.gson().deserialize(SnapshotCodec.readString(in));
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.codec;
+
+import cloud.grabsky.configuration.SnapshotCodec;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes {@link ItemStack} to snapshots using {@link ItemStack#serializeAsBytes()}, which is upgraded by the server when read in newer version.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ItemStackCodec implements SnapshotCodec<ItemStack> {
+    /* SINGLETON */ public static final ItemStackCodec INSTANCE = new ItemStackCodec();
+
+    @Override
+    public @NotNull Class<ItemStack> getType() {
+        return ItemStack.class;
+    }
+
+    @Override
+    public void write(final @NotNull DataOutput out, final @NotNull ItemStack value) throws IOException {
+        final byte[] bytes = value.serializeAsBytes();
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    public @NotNull ItemStack read(final @NotNull DataInput in) throws IOException {
+        final int length = in.readInt();
+        // Throwing exception on negative length, which can be found only in corrupted snapshots
+        if (length < 0)
+            throw new IOException("Invalid length: " + length);
+        // ...
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return ItemStack.deserializeBytes(bytes);
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.object;
+
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.datacomponent.item.ItemLore;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static net.kyori.adventure.text.Component.empty;
+
+/**
+ * Fully built prototype {@link ItemStack} which hands out copies. Prototype is never exposed and copies are
+ * created using {@link ItemStack#clone()}, so nothing has to be parsed or applied again. Name, custom name and
+ * lore lines with placeholders, eg. {@code <player>}, are compiled to {@link MessageTemplate MessageTemplates}
+ * and only these are rendered when copy is created with placeholder values.
+ */
+@SuppressWarnings("UnstableApiUsage")
+@RequiredArgsConstructor(access = AccessLevel.PUBLIC)
+public final class ItemTemplate {
+
+    private final @NotNull ItemStack prototype;
+
+    // Templates of minecraft:item_name and minecraft:custom_name. Null if value has no slots.
+    @Getter(AccessLevel.PUBLIC)
+    private final @Nullable MessageTemplate itemName;
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @Nullable MessageTemplate customName;
+
+    // Templates of minecraft:lore lines, by their index. Null elements are lines without slots. Null if no line has slots.
+    @Getter(AccessLevel.PUBLIC)
+    private final @Nullable MessageTemplate @Nullable [] lore;
+
+    /**
+     * Creates {@link ItemTemplate} without any placeholders.
+     */
+    public ItemTemplate(final @NotNull ItemStack prototype) {
+        this(prototype, null, null, null);
+    }
+
+    /**
+     * Returns copy of the prototype.
+     */
+    public @NotNull ItemStack create() {
+        return prototype.clone();
+    }
+
+    /**
+     * Returns copy of the prototype with specified amount.
+     */
+    public @NotNull ItemStack create(final int amount) {
+        final ItemStack item = prototype.clone();
+        item.setAmount(amount);
+        return item;
+    }
+
+    /**
+     * Returns copy of the prototype with placeholders filled with provided values.
+     */
+    public @NotNull ItemStack create(final @NotNull Map<String, ? extends ComponentLike> values) {
+        return create(prototype.getAmount(), values::get);
+    }
+
+    /**
+     * Returns copy of the prototype with specified amount and placeholders filled with provided values.
+     */
+    public @NotNull ItemStack create(final int amount, final @NotNull Map<String, ? extends ComponentLike> values) {
+        return create(amount, values::get);
+    }
+
+    /**
+     * Returns copy of the prototype with specified amount and placeholders filled with values returned by provided function.
+     * Placeholders without a value are left as they were written, eg. {@code <player>}.
+     */
+    public @NotNull ItemStack create(final int amount, final @NotNull Function<String, ? extends ComponentLike> values) {
+        final ItemStack item = create(amount);
+        // minecraft:item_name
+        if (itemName != null)
+            item.setData(DataComponentTypes.ITEM_NAME, itemName.render(values));
+        // minecraft:custom_name
+        if (customName != null)
+            item.setData(DataComponentTypes.CUSTOM_NAME, decorate(customName.render(values)));
+        // minecraft:lore; Lines without slots are taken from the prototype as they are.
+        if (lore != null) {
+            final @Nullable ItemLore current = prototype.getData(DataComponentTypes.LORE);
+            // Should not happen unless lore was removed using components.
+            if (current != null && current.lines().size() == lore.length) {
+                final List<Component> lines = new ArrayList<>(current.lines());
+                for (int i = 0; i < lore.length; i++)
+                    if (lore[i] != null)
+                        lines.set(i, decorate(lore[i].render(values)).compact());
+                item.setData(DataComponentTypes.LORE, ItemLore.lore(lines));
+            }
+        }
+        return item;
+    }
+
+    /**
+     * Returns {@code true} if any of the name, custom name or lore lines has placeholders.
+     */
+    public boolean hasSlots() {
+        return itemName != null || customName != null || lore != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemTemplate[" + prototype + "]";
+    }
+
+    // Disables italic decoration, the same way as when item is mapped.
+    private static @NotNull Component decorate(final @NotNull Component component) {
+        return empty().decoration(TextDecoration.ITALIC, false).append(component);
+    }
+
+}
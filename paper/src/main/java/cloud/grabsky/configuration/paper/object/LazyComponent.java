@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.object;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@link Component} which keeps raw {@link MiniMessage} text and parses it on first access, at most once.
+ * Can be used anywhere {@link ComponentLike} is accepted.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LazyComponent implements ComponentLike {
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull String text;
+
+    private final @NotNull MiniMessage miniMessage;
+
+    private volatile Component component;
+
+    /**
+     * Creates {@link LazyComponent} which parses provided text using specified {@link MiniMessage} instance, on first access.
+     *
+     * @param text raw {@link MiniMessage} text.
+     * @param miniMessage {@link MiniMessage} instance.
+     * @return a new instance of {@link LazyComponent}.
+     */
+    public static @NotNull LazyComponent of(final @NotNull String text, final @NotNull MiniMessage miniMessage) {
+        return new LazyComponent(text, miniMessage);
+    }
+
+    /**
+     * Returns {@code true} if text has already been parsed.
+     */
+    public boolean isParsed() {
+        return component != null;
+    }
+
+    /**
+     * Returns parsed {@link Component}. Text is parsed on the first call; Subsequent calls, including concurrent ones, return the same instance.
+     */
+    @Override
+    public @NotNull Component asComponent() {
+        Component result = component;
+        // Parsing, unless already parsed; Double-checked, so text is parsed at most once
+        if (result == null) {
+            synchronized (this) {
+                result = component;
+                if (result == null)
+                    component = result = ("".equals(text) == true) ? Component.empty() : miniMessage.deserialize(text).compact();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyComponent[" + text + "]";
+    }
+
+}
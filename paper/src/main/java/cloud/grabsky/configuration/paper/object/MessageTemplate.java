@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.object;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link MiniMessage} text compiled once into a {@link Component} tree with placeholder slots. Tags which are not known
+ * when the template is compiled, eg. {@code <player>}, become slots which are filled when the template is rendered.
+ * Rendering does not parse anything and parts of the tree without slots are shared between all rendered components.
+ * Slots inside hover and click events are not supported.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MessageTemplate {
+
+    // Key of translatable components used to mark slots in the parsed tree. Followed by name of the slot.
+    private static final String SLOT_KEY = "cloud.grabsky.configuration.slot:";
+
+    @Getter(AccessLevel.PUBLIC)
+    private final @NotNull String text;
+
+    // Compiled tree. Either a Component without any slots, a Slot or a Node.
+    private final @NotNull Object root;
+
+    /**
+     * Compiles provided {@link MiniMessage} text. Tags not known to {@code tags} become slots.
+     *
+     * @param text {@link MiniMessage} text.
+     * @param miniMessage {@link MiniMessage} instance used to parse the text.
+     * @param tags {@link TagResolver} of tags known to provided {@link MiniMessage} instance.
+     * @return a new instance of {@link MessageTemplate}.
+     */
+    public static @NotNull MessageTemplate compile(final @NotNull String text, final @NotNull MiniMessage miniMessage, final @NotNull TagResolver tags) {
+        final Component component = ("".equals(text) == true) ? Component.empty() : miniMessage.deserialize(text, new SlotResolver(tags)).compact();
+        // ...
+        return new MessageTemplate(text, compile(component));
+    }
+
+    /**
+     * Returns names of all slots, in order of appearance. Names may repeat.
+     */
+    public @NotNull List<String> getSlots() {
+        final List<String> slots = new ArrayList<>();
+        collectSlots(root, slots);
+        return slots;
+    }
+
+    /**
+     * Renders this template, filling slots with provided values. Slots without a value are rendered as they were written, eg. {@code <player>}.
+     *
+     * @param values values of slots, by their name.
+     * @return rendered {@link Component}.
+     */
+    public @NotNull Component render(final @NotNull Map<String, ? extends ComponentLike> values) {
+        return render(root, values::get);
+    }
+
+    /**
+     * Renders this template, filling slots with values returned by provided function. Slots without a value are rendered as they were written, eg. {@code <player>}.
+     *
+     * @param values function returning value of the slot of provided name, or {@code null}.
+     * @return rendered {@link Component}.
+     */
+    public @NotNull Component render(final @NotNull Function<String, ? extends ComponentLike> values) {
+        return render(root, values);
+    }
+
+    @Override
+    public String toString() {
+        return "MessageTemplate[" + text + "]";
+    }
+
+    /* STATIC HELPERS */
+
+    // Compiles provided component. Components without any slots are returned as they are.
+    private static @NotNull Object compile(final @NotNull Component component) {
+        // Replacing slot markers
+        if (component instanceof TranslatableComponent translatable && translatable.key().startsWith(SLOT_KEY) == true)
+            return new Slot(translatable.key().substring(SLOT_KEY.length()), translatable.style());
+        // Compiling children; Node is created only if any of them contains a slot
+        final List<Component> children = component.children();
+        final Object[] compiled = new Object[children.size()];
+        boolean hasSlots = false;
+        for (int i = 0; i < children.size(); i++) {
+            compiled[i] = compile(children.get(i));
+            hasSlots |= (compiled[i] instanceof Component) == false;
+        }
+        return (hasSlots == true) ? new Node(component.children(List.of()), compiled) : component;
+    }
+
+    private static @NotNull Component render(final @NotNull Object compiled, final @NotNull Function<String, ? extends ComponentLike> values) {
+        return switch (compiled) {
+            case Component component -> component;
+            case Slot slot -> {
+                final ComponentLike value = values.apply(slot.name);
+                // Applying style of the marker, which may have been merged onto it from its parent when the tree was compacted
+                yield (value != null) ? value.asComponent().applyFallbackStyle(slot.style) : Component.text("<" + slot.name + ">", slot.style);
+            }
+            case Node node -> {
+                final List<Component> children = new ArrayList<>(node.children.length);
+                for (final Object child : node.children)
+                    children.add(render(child, values));
+                yield node.component.children(children);
+            }
+            default -> throw new IllegalStateException("Unexpected value: " + compiled);
+        };
+    }
+
+    private static void collectSlots(final @NotNull Object compiled, final @NotNull List<String> slots) {
+        if (compiled instanceof Slot slot)
+            slots.add(slot.name);
+        else if (compiled instanceof Node node)
+            for (final Object child : node.children)
+                collectSlots(child, slots);
+    }
+
+    // Slot to be filled with a value.
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Slot {
+
+        private final @NotNull String name;
+
+        // Style of the slot marker, applied to the value as a fallback.
+        private final @NotNull Style style;
+
+    }
+
+    // Component (stripped of its children) which children contain slots. Children are compiled the same way as the root.
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class Node {
+
+        private final @NotNull Component component;
+
+        private final @NotNull Object[] children;
+
+    }
+
+    // Resolves all tags unknown to provided resolver as slot markers.
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class SlotResolver implements TagResolver {
+
+        private final TagResolver tags;
+
+        @Override
+        public @Nullable Tag resolve(final @NotNull String name, final @NotNull ArgumentQueue arguments, final @NotNull Context context) {
+            return (this.has(name) == true) ? Tag.selfClosingInserting(Component.translatable(SLOT_KEY + name)) : null;
+        }
+
+        @Override
+        public boolean has(final @NotNull String name) {
+            return tags.has(name) == false;
+        }
+
+    }
+
+}
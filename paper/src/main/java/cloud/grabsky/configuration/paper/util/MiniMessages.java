@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Utilities for working with {@link MiniMessage} text without parsing it into a {@link net.kyori.adventure.text.Component Component}.
+ * Used to fail the mapping early on broken text, while parsing itself is deferred until the text is actually needed.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MiniMessages {
+
+    /**
+     * Checks syntax of provided {@link MiniMessage} text without parsing it. Text is considered broken when it contains a tag which is never
+     * closed with {@code >}, and which is either known to provided {@link TagResolver} or has arguments. Unknown tags are allowed, as these can
+     * be resolved later, eg. by placeholders. Text which only looks like a tag, eg. {@code <3}, is left alone, same as {@link MiniMessage} would do.
+     *
+     * @param text {@link MiniMessage} text.
+     * @param tags {@link TagResolver} of tags which are known upfront.
+     * @throws IllegalArgumentException when text is broken.
+     */
+    public static void validate(final @NotNull String text, final @NotNull TagResolver tags) throws IllegalArgumentException {
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            // Skipping escaped characters
+            if (c == '\\') {
+                i++;
+                continue;
+            }
+            if (c != '<')
+                continue;
+            // Skipping closing and negation prefixes
+            int start = i + 1;
+            if (start < text.length() && (text.charAt(start) == '/' || text.charAt(start) == '!'))
+                start++;
+            // Reading name of the tag, which ends at the first argument separator or at the end of the tag
+            int end = start;
+            while (end < text.length() && isNameCharacter(text.charAt(end)) == true)
+                end++;
+            // Not a tag, if there is no name
+            if (end == start)
+                continue;
+            final String name = text.substring(start, end).toLowerCase(Locale.ROOT);
+            // Tags with arguments cannot be mistaken for a plain text, even if they are not known
+            final boolean isTag = (name.charAt(0) == '#' || tags.has(name) == true || (end < text.length() && text.charAt(end) == ':'));
+            // Finding end of the tag, skipping quoted arguments
+            final int close = findClose(text, end);
+            // Reporting tags which are not closed; Anything else is likely to be a plain text
+            if (close == -1) {
+                if (isTag == true)
+                    throw new IllegalArgumentException("Tag <" + name + "> at index " + i + " is not closed: " + text);
+                continue;
+            }
+            // Continuing after the end of the tag
+            i = close;
+        }
+    }
+
+    // Returns index of '>' which closes the tag, or -1 if tag is not closed.
+    private static int findClose(final @NotNull String text, final int from) {
+        char quote = 0;
+        for (int i = from; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            // Skipping contents of quoted arguments
+            if (quote != 0) {
+                if (c == '\\')
+                    i++;
+                else if (c == quote)
+                    quote = 0;
+                continue;
+            }
+            switch (c) {
+                case '\'', '"' -> quote = c;
+                case '>' -> { return i; }
+                case '<', '\n' -> { return -1; }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isNameCharacter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-' || c == '#';
+    }
+
+}
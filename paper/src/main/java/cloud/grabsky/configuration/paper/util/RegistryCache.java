@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2023 Grabsky <44530932+Grabsky@users.noreply.github.com>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ *  of this software and associated documentation files (the "Software"), to deal
+ *  in the Software without restriction, including without limitation the rights
+ *  to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ *  copies of the Software, and to permit persons to whom the Software is
+ *  furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ *  copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * HORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package cloud.grabsky.configuration.paper.util;
+
+import cloud.grabsky.configuration.util.BoundedCache;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of parsed {@link NamespacedKey NamespacedKeys} and of values looked up in {@link Registry registries}.
+ * Registries are frozen once the server has started, so the cache has to be invalidated only if registries are modified by other means.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RegistryCache {
+
+    private static final int MAXIMUM_SIZE = 4096;
+
+    // Parsed keys, by their string representation.
+    private static final BoundedCache<String, NamespacedKey> KEYS = new BoundedCache<>(MAXIMUM_SIZE);
+
+    // Values looked up in each of the registries, by their key.
+    private static final Map<Registry<?>, BoundedCache<NamespacedKey, Keyed>> VALUES = new ConcurrentHashMap<>();
+
+    /**
+     * Returns {@link NamespacedKey} parsed from provided string. Returned instance is shared between all calls with the same string.
+     * Key without namespace defaults to {@link NamespacedKey#MINECRAFT} namespace.
+     *
+     * @param value string in {@code namespace:key} or {@code key} format.
+     * @return parsed {@link NamespacedKey}.
+     * @throws IllegalArgumentException when string is not a valid key.
+     */
+    public static @NotNull NamespacedKey key(final @NotNull String value) throws IllegalArgumentException {
+        final NamespacedKey key = KEYS.get(value, RegistryCache::parse);
+        // Parser never returns null, but the cache may
+        if (key == null)
+            throw new IllegalArgumentException("Invalid key: " + value);
+        // ...
+        return key;
+    }
+
+    /**
+     * Returns value of provided key from specified {@link Registry}, or {@code null} if there is no such value.
+     *
+     * @param registry {@link Registry} to look up the value in.
+     * @param key key of the value.
+     * @return value of provided key, or {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Keyed> @Nullable T get(final @NotNull Registry<T> registry, final @NotNull NamespacedKey key) {
+        return (T) VALUES.computeIfAbsent(registry, (ignored) -> new BoundedCache<>(MAXIMUM_SIZE)).get(key, registry::get);
+    }
+
+    /**
+     * Removes all cached keys and values. Should be called after registries have been modified.
+     */
+    public static void invalidate() {
+        KEYS.invalidate();
+        VALUES.values().forEach(BoundedCache::invalidate);
+    }
+
+    /**
+     * Returns cache of parsed keys, eg. to inspect its statistics.
+     */
+    public static @NotNull BoundedCache<String, NamespacedKey> getKeyCache() {
+        return KEYS;
+    }
+
+    // Parses key without String#split, so no arrays are allocated.
+    private static @NotNull NamespacedKey parse(final @NotNull String value) throws IllegalArgumentException {
+        final int separator = value.indexOf(':');
+        // Defaulting to 'minecraft:' namespace
+        if (separator == -1)
+            return new NamespacedKey(NamespacedKey.MINECRAFT, value);
+        // ...
+        if (value.indexOf(':', separator + 1) != -1)
+            throw new IllegalArgumentException("Invalid key: " + value);
+        // ...
+        return new NamespacedKey(value.substring(0, separator), value.substring(separator + 1));
+    }
+
+}
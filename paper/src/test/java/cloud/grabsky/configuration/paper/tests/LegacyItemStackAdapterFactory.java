@@ -0,0 +1,341 @@
+package cloud.grabsky.configuration.paper.tests;
+
+import cloud.grabsky.configuration.paper.object.EnchantmentEntry;
+import cloud.grabsky.configuration.paper.object.PersistentDataEntry;
+import com.destroystokyo.paper.profile.ProfileProperty;
+import com.squareup.moshi.Json;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+import io.papermc.paper.datacomponent.DataComponentTypes;
+import io.papermc.paper.datacomponent.item.Consumable;
+import io.papermc.paper.datacomponent.item.Equippable;
+import io.papermc.paper.datacomponent.item.FoodProperties;
+import io.papermc.paper.datacomponent.item.ItemLore;
+import io.papermc.paper.datacomponent.item.ResolvableProfile;
+import io.papermc.paper.datacomponent.item.consumable.ItemUseAnimation;
+import io.papermc.paper.registry.RegistryKey;
+import io.papermc.paper.registry.set.RegistrySet;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.EntityType;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemRarity;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.ItemType;
+import org.bukkit.inventory.meta.EnchantmentStorageMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.squareup.moshi.Types.getRawType;
+import static net.kyori.adventure.text.Component.empty;
+
+/**
+ * Reads {@link ItemStack} the way it was read before the streaming reader was introduced: surrogates are read reflectively,
+ * {@code components} are applied first through {@link org.bukkit.UnsafeValues#modifyItemStack}, then data components are set
+ * and enchantments, custom model data and persistent data are applied through {@link ItemMeta}. Used as a reference in equivalence tests.
+ */
+public final class LegacyItemStackAdapterFactory implements JsonAdapter.Factory {
+    /* SINGLETON */ public static final LegacyItemStackAdapterFactory INSTANCE = new LegacyItemStackAdapterFactory();
+
+    private LegacyItemStackAdapterFactory() { /* EMPTY */ }
+
+    @Override
+    public @Nullable JsonAdapter<ItemStack> create(final @NotNull Type type, final @NotNull Set<? extends Annotation> annotations, final @NotNull Moshi moshi) {
+        if (ItemStack.class.isAssignableFrom(getRawType(type)) == false)
+            return null;
+        // ...
+        final JsonAdapter<ItemStackSurrogate> adapter = moshi.adapter(ItemStackSurrogate.class).nullSafe();
+        // ...
+        return new JsonAdapter<>() {
+
+            @Override
+            public ItemStack fromJson(final @NotNull JsonReader in) throws IOException {
+                final @Nullable ItemStackSurrogate surrogate = adapter.fromJson(in);
+                // Throwing exception if surrogate is null.
+                if (surrogate == null)
+                    throw new JsonDataException("Invalid ItemStack definition found at " + in.getPath() + " path.");
+                // ...
+                return surrogate.init();
+            }
+
+            @Override
+            public void toJson(final @NotNull JsonWriter out, final ItemStack value) {
+                throw new UnsupportedOperationException("NOT IMPLEMENTED");
+            }
+
+        };
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private static final class ItemMetaSurrogate {
+
+        private static final UUID EMPTY_UUID = UUID.nameUUIDFromBytes(new byte[0]);
+
+        @Json(name = "name")
+        private @Nullable Component itemName;
+
+        @Json(name = "custom_name")
+        private @Nullable Component customName;
+
+        @Json(name = "lore")
+        private @NotNull Component @Nullable [] lore;
+
+        @Json(name = "rarity")
+        private @Nullable ItemRarity rarity;
+
+        @Json(name = "custom_model_data")
+        private @Nullable Integer customModelData;
+
+        @Json(name = "model")
+        private @Nullable NamespacedKey model;
+
+        @Json(name = "item_flags")
+        private @NotNull ItemFlag @Nullable [] itemFlags;
+
+        @Json(name = "enchantments")
+        private @NotNull EnchantmentEntry @Nullable [] enchantments;
+
+        @Json(name = "stored_enchantments")
+        private @NotNull EnchantmentEntry @Nullable [] storedEnchantments;
+
+        @Json(name = "persistent_data_container")
+        private @NotNull PersistentDataEntry @Nullable [] persistentDataEntries;
+
+        @Json(name = "skull_texture")
+        private @Nullable String skullTexture;
+
+        @Json(name = "durability")
+        private @Nullable Integer durability;
+
+        @Json(name = "food")
+        private @Nullable FoodComponentContainer food;
+
+        @Json(name = "consumable")
+        private @Nullable ConsumableComponentContainer consumable;
+
+        @Json(name = "equippable")
+        private @Nullable EquippableComponentContainer equippable;
+
+        @Json(name = "note_block_sound")
+        private @Nullable NamespacedKey noteBlockSound;
+
+        @Json(name = "max_stack_size")
+        private @Nullable Integer maxStackSize;
+
+        @Json(name = "max_damage")
+        private @Nullable Integer maxDamage;
+
+        @Json(name = "enchantment_glint_override")
+        private @Nullable Boolean enchantmentGlintOverride;
+
+        @Json(name = "components")
+        private @Nullable String components;
+
+        @SuppressWarnings("unchecked")
+        private @NotNull ItemMeta init(final @NotNull ItemStack item) {
+            final @Nullable ItemType type = item.getType().asItemType();
+            // Throwing IllegalArgumentException when the type is null.
+            if (type == null)
+                throw new IllegalArgumentException("Specified ItemStack is not a valid item.");
+            // ...
+            if (itemName != null)
+                item.setData(DataComponentTypes.ITEM_NAME, itemName);
+            if (customName != null)
+                item.setData(DataComponentTypes.CUSTOM_NAME, empty().decoration(TextDecoration.ITALIC, false).append(customName));
+            if (lore != null)
+                item.setData(DataComponentTypes.LORE, ItemLore.lore(Arrays.stream(lore).map(line -> empty().decoration(TextDecoration.ITALIC, false).append(line).compact()).toList()));
+            if (noteBlockSound != null)
+                item.setData(DataComponentTypes.NOTE_BLOCK_SOUND, noteBlockSound);
+            if (rarity != null)
+                item.setData(DataComponentTypes.RARITY, rarity);
+            if (model != null)
+                item.setData(DataComponentTypes.ITEM_MODEL, model);
+            if (maxStackSize != null)
+                item.setData(DataComponentTypes.MAX_STACK_SIZE, maxStackSize);
+            if (maxDamage != null)
+                item.setData(DataComponentTypes.MAX_DAMAGE, maxDamage);
+            if (enchantmentGlintOverride != null)
+                item.setData(DataComponentTypes.ENCHANTMENT_GLINT_OVERRIDE, enchantmentGlintOverride);
+            if (durability != null)
+                item.setData(DataComponentTypes.DAMAGE, item.getType().getMaxDurability() - Math.max(0, durability));
+            // ...
+            if (food != null) {
+                final var component = (type.hasDefaultData(DataComponentTypes.FOOD) == true) ? type.getDefaultData(DataComponentTypes.FOOD).toBuilder() : FoodProperties.food();
+                if (food.nutrition != null)
+                    component.nutrition(food.nutrition);
+                if (food.saturation != null)
+                    component.saturation(food.saturation);
+                if (food.canAlwaysEat != null)
+                    component.canAlwaysEat(food.canAlwaysEat);
+                item.setData(DataComponentTypes.FOOD, component);
+            }
+            if (consumable != null) {
+                final var component = (type.hasDefaultData(DataComponentTypes.CONSUMABLE) == true) ? type.getDefaultData(DataComponentTypes.CONSUMABLE).toBuilder() : Consumable.consumable();
+                if (consumable.consumeSeconds != null)
+                    component.consumeSeconds(consumable.consumeSeconds);
+                if (consumable.animation != null)
+                    component.animation(ItemUseAnimation.valueOf(consumable.animation.toUpperCase()));
+                if (consumable.sound != null)
+                    component.sound(consumable.sound);
+                if (consumable.hasConsumeParticles != null)
+                    component.hasConsumeParticles(consumable.hasConsumeParticles);
+                item.setData(DataComponentTypes.CONSUMABLE, component);
+            }
+            if (equippable != null) {
+                final var component = (type.hasDefaultData(DataComponentTypes.EQUIPPABLE) == true) ? type.getDefaultData(DataComponentTypes.EQUIPPABLE).toBuilder() : Equippable.equippable(equippable.slot);
+                if (equippable.equipSound != null)
+                    component.equipSound(equippable.equipSound);
+                if (equippable.assetId != null)
+                    component.assetId(equippable.assetId);
+                if (equippable.allowedEntities != null)
+                    component.allowedEntities(RegistrySet.keySetFromValues(RegistryKey.ENTITY_TYPE, equippable.allowedEntities));
+                if (equippable.dispensable != null)
+                    component.dispensable(equippable.dispensable);
+                if (equippable.swappable != null)
+                    component.swappable(equippable.swappable);
+                if (equippable.damageOnHurt != null)
+                    component.damageOnHurt(equippable.damageOnHurt);
+                if (equippable.cameraOverlay != null)
+                    component.cameraOverlay(equippable.cameraOverlay);
+                item.setData(DataComponentTypes.EQUIPPABLE, component);
+            }
+            if (skullTexture != null) {
+                final String textures = (skullTexture.startsWith("http") == true)
+                        ? Base64.getEncoder().encodeToString(String.format("""
+                                {
+                                    "textures": {
+                                        "SKIN": { "url": "%s" }
+                                    }
+                                }
+                                """, skullTexture).trim().getBytes())
+                        : skullTexture;
+                item.setData(DataComponentTypes.PROFILE, ResolvableProfile.resolvableProfile().name(null).uuid(EMPTY_UUID).addProperty(new ProfileProperty("textures", textures)));
+            }
+            // Applying remaining values through ItemMeta
+            final ItemMeta meta = item.getItemMeta();
+            // ...
+            if (customModelData != null)
+                meta.setCustomModelData(customModelData);
+            if (enchantments != null)
+                for (final var entry : enchantments)
+                    meta.addEnchant(entry.getEnchantment(), entry.getLevel(), true);
+            if (storedEnchantments != null)
+                for (final var entry : storedEnchantments)
+                    ((EnchantmentStorageMeta) meta).addStoredEnchant(entry.getEnchantment(), entry.getLevel(), true);
+            if (persistentDataEntries != null) {
+                final PersistentDataContainer container = meta.getPersistentDataContainer();
+                for (final var entry : persistentDataEntries)
+                    container.set(entry.getKey(), (PersistentDataType<?, Object>) entry.getType(), entry.getValue());
+            }
+            return meta;
+        }
+
+    }
+
+    private static final class ItemStackSurrogate {
+
+        @Json(name = "material")
+        private Material material;
+
+        @Json(name = "amount")
+        private @Nullable Integer amount;
+
+        @Json(name = "meta")
+        private @Nullable ItemMetaSurrogate meta;
+
+        private @NotNull ItemStack init() {
+            if (material == null)
+                throw new JsonDataException("Required value 'material' missing.");
+            // ...
+            final ItemStack item = new ItemStack(material, (amount != null) ? amount : 1);
+            // Applying components first, then other meta
+            if (meta != null) {
+                if (meta.components != null) {
+                    if (Bukkit.getUnsafe().getProtocolVersion() >= 775)
+                        Bukkit.getUnsafe().modifyItemStack(item, meta.components);
+                    else Bukkit.getUnsafe().modifyItemStack(item, item.getType().getKey().asString() + meta.components);
+                }
+                item.setItemMeta(meta.init(item));
+            }
+            return item;
+        }
+
+    }
+
+    private static final class FoodComponentContainer {
+
+        @Json(name = "nutrition")
+        private @Nullable Integer nutrition;
+
+        @Json(name = "saturation")
+        private @Nullable Float saturation;
+
+        @Json(name = "can_always_eat")
+        private @Nullable Boolean canAlwaysEat;
+
+    }
+
+    private static final class ConsumableComponentContainer {
+
+        @Json(name = "consume_seconds")
+        private @Nullable Float consumeSeconds;
+
+        @Json(name = "animation")
+        private @Nullable String animation;
+
+        @Json(name = "sound")
+        private @Nullable NamespacedKey sound;
+
+        @Json(name = "has_consume_particles")
+        private @Nullable Boolean hasConsumeParticles;
+
+    }
+
+    private static final class EquippableComponentContainer {
+
+        @Json(name = "slot")
+        private EquipmentSlot slot;
+
+        @Json(name = "equip_sound")
+        private @Nullable NamespacedKey equipSound;
+
+        @Json(name = "asset_id")
+        private @Nullable NamespacedKey assetId;
+
+        @Json(name = "allowed_entities")
+        private @Nullable List<EntityType> allowedEntities;
+
+        @Json(name = "dispensable")
+        private @Nullable Boolean dispensable;
+
+        @Json(name = "swappable")
+        private @Nullable Boolean swappable;
+
+        @Json(name = "damage_on_hurt")
+        private @Nullable Boolean damageOnHurt;
+
+        @Json(name = "camera_overlay")
+        private @Nullable NamespacedKey cameraOverlay;
+
+    }
+
+}
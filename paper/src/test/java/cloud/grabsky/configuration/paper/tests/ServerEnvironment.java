@@ -0,0 +1,61 @@
+package cloud.grabsky.configuration.paper.tests;
+
+import cloud.grabsky.configuration.adapter.AbstractEnumJsonAdapter;
+import cloud.grabsky.configuration.paper.adapter.ComponentAdapter;
+import cloud.grabsky.configuration.paper.adapter.EnchantmentAdapterFactory;
+import cloud.grabsky.configuration.paper.adapter.EnchantmentEntryAdapterFactory;
+import cloud.grabsky.configuration.paper.adapter.EntityTypeAdapterFactory;
+import cloud.grabsky.configuration.paper.adapter.ItemFlagAdapter;
+import cloud.grabsky.configuration.paper.adapter.MaterialAdapterFactory;
+import cloud.grabsky.configuration.paper.adapter.NamespacedKeyAdapter;
+import cloud.grabsky.configuration.paper.adapter.PersistentDataEntryAdapterFactory;
+import cloud.grabsky.configuration.paper.adapter.PersistentDataTypeAdapterFactory;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemRarity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Helpers of tests which build items. Building items requires registries and {@link org.bukkit.UnsafeValues} of a running server,
+ * so these tests are enabled only when executed inside of a server, eg. through JUnit Platform Launcher called by a test plugin.
+ */
+public final class ServerEnvironment {
+
+    private ServerEnvironment() { /* EMPTY */ }
+
+    /**
+     * Returns {@code true} if tests are executed inside of a running server.
+     */
+    public static boolean isServerRunning() {
+        try {
+            return Bukkit.getServer() != null;
+        } catch (final NoClassDefFoundError error) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates {@link Moshi} instance with the same adapters as {@link cloud.grabsky.configuration.paper.PaperConfigurationMapper PaperConfigurationMapper},
+     * except {@link org.bukkit.inventory.ItemStack ItemStack} is read using provided factory.
+     */
+    public static @NotNull Moshi moshi(final @NotNull JsonAdapter.Factory itemFactory) {
+        return new Moshi.Builder()
+                .add(Component.class, ComponentAdapter.INSTANCE)
+                .add(ItemFlag.class, ItemFlagAdapter.INSTANCE)
+                .add(NamespacedKey.class, NamespacedKeyAdapter.INSTANCE)
+                .add(EnchantmentAdapterFactory.INSTANCE)
+                .add(EnchantmentEntryAdapterFactory.INSTANCE)
+                .add(EntityTypeAdapterFactory.INSTANCE)
+                .add(itemFactory)
+                .add(MaterialAdapterFactory.INSTANCE)
+                .add(PersistentDataEntryAdapterFactory.INSTANCE)
+                .add(PersistentDataTypeAdapterFactory.INSTANCE)
+                .add(ItemRarity.class, new AbstractEnumJsonAdapter<>(ItemRarity.class, false) {})
+                .build();
+    }
+
+}
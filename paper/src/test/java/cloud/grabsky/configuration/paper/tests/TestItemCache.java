@@ -0,0 +1,152 @@
+package cloud.grabsky.configuration.paper.tests;
+
+import cloud.grabsky.configuration.ConfigurationHolder;
+import cloud.grabsky.configuration.JsonConfiguration;
+import cloud.grabsky.configuration.JsonPath;
+import cloud.grabsky.configuration.exception.ConfigurationMappingException;
+import cloud.grabsky.configuration.paper.PaperConfigurationMapper;
+import cloud.grabsky.configuration.paper.adapter.ItemStackAdapterFactory;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+// Requires registries of a running server. See ServerEnvironment for details.
+@EnabledIf("cloud.grabsky.configuration.paper.tests.ServerEnvironment#isServerRunning")
+public class TestItemCache {
+
+    private static final String DEFINITION = """
+            { "material": "minecraft:diamond_sword", "meta": { "name": "<red>Sword", "enchantments": [{ "key": "minecraft:sharpness", "level": 5 }] } }
+            """.trim();
+
+    private static final String OTHER_DEFINITION = """
+            { "material": "minecraft:diamond_sword", "meta": { "name": "<red>Sword", "enchantments": [{ "key": "minecraft:sharpness", "level": 4 }] } }
+            """.trim();
+
+    @Test
+    public void checkReuse(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("items.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"first\": " + DEFINITION + ", \"second\": " + DEFINITION + ", \"third\": " + OTHER_DEFINITION + " }");
+
+        final PaperConfigurationMapper mapper = PaperConfigurationMapper.create();
+
+        ItemStackAdapterFactory.INSTANCE.resetStatistics();
+
+        mapper.map(true, ConfigurationHolder.of(Config.class, file));
+
+        // Identical definitions should be built once, different definition should be built on its own
+        assertEquals(2, ItemStackAdapterFactory.INSTANCE.getBuilds());
+        assertEquals(1, ItemStackAdapterFactory.INSTANCE.getReuses());
+
+        assertEquals(Config.FIRST, Config.SECOND);
+        assertNotEquals(Config.FIRST, Config.THIRD);
+
+        // Items should be independent copies; Modifying one of them should not affect the other
+        assertNotSame(Config.FIRST, Config.SECOND);
+
+        Config.FIRST.setAmount(32);
+        Config.FIRST.removeEnchantment(Enchantment.SHARPNESS);
+        Config.FIRST.editMeta(meta -> meta.getPersistentDataContainer().set(new NamespacedKey("test", "modified"), PersistentDataType.BOOLEAN, true));
+
+        assertEquals(1, Config.SECOND.getAmount());
+        assertEquals(5, Config.SECOND.getEnchantmentLevel(Enchantment.SHARPNESS));
+        assertFalse(Config.SECOND.getPersistentDataContainer().has(new NamespacedKey("test", "modified")));
+    }
+
+    @Test
+    public void checkCacheScope(final @TempDir Path directory) throws IOException, ConfigurationMappingException {
+        final File file = directory.resolve("single.json").toFile();
+
+        Files.writeString(file.toPath(), "{ \"first\": " + DEFINITION + ", \"second\": " + OTHER_DEFINITION + ", \"third\": " + DEFINITION + " }");
+
+        final PaperConfigurationMapper mapper = PaperConfigurationMapper.create();
+
+        ItemStackAdapterFactory.INSTANCE.resetStatistics();
+
+        // Items should not be reused between mapping runs
+        mapper.map(true, ConfigurationHolder.of(Config.class, file));
+        mapper.map(true, ConfigurationHolder.of(Config.class, file));
+
+        assertEquals(4, ItemStackAdapterFactory.INSTANCE.getBuilds());
+        assertEquals(2, ItemStackAdapterFactory.INSTANCE.getReuses());
+    }
+
+    @Test
+    public void checkRoundTrip() throws IOException {
+        final JsonAdapter<ItemStack> adapter = ServerEnvironment.moshi(ItemStackAdapterFactory.INSTANCE).adapter(ItemStack.class);
+
+        final String[] definitions = {
+                DEFINITION,
+                """
+                { "material": "minecraft:enchanted_book", "amount": 2, "meta": { "stored_enchantments": [{ "key": "minecraft:mending", "level": 1 }] } }
+                """,
+                """
+                { "material": "minecraft:paper", "meta": { "custom_name": "<gold>Note", "lore": ["<gray>Line"], "rarity": "rare", "custom_model_data": 1001 } }
+                """,
+                """
+                { "material": "minecraft:player_head", "meta": { "skull_texture": "http://textures.minecraft.net/texture/4f2a5b9e6d51c4b1b6f9b5b2c1e5a9c7f3f1e2d3c4b5a6978877665544332211" } }
+                """,
+                """
+                { "material": "minecraft:apple", "meta": { "food": { "nutrition": 10, "saturation": 2.5 }, "persistent_data_container": [{ "key": "test:value", "type": "integer", "value": 42 }] } }
+                """
+        };
+
+        for (final String definition : definitions) {
+            final ItemStack item = adapter.fromJson(definition);
+            // Item written to JSON and read back should be equal to the original one
+            assertEquals(item, adapter.fromJson(adapter.toJson(item)), definition);
+        }
+        // Item without any meta should be equal as well
+        final ItemStack plain = new ItemStack(Material.STONE, 3);
+        assertEquals(plain, adapter.fromJson(adapter.toJson(plain)));
+    }
+
+    @Test
+    @SuppressWarnings("UnstableApiUsage")
+    public void checkProfiles() throws IOException {
+        final JsonAdapter<ItemStack> adapter = ServerEnvironment.moshi(ItemStackAdapterFactory.INSTANCE).adapter(ItemStack.class);
+        final String texture = "http://textures.minecraft.net/texture/0a1b2c3d4e5f60718293a4b5c6d7e8f90a1b2c3d4e5f60718293a4b5c6d7e8f9";
+        final String definition = "{ \"material\": \"minecraft:player_head\", \"meta\": { \"skull_texture\": \"" + texture + "\" } }";
+
+        ItemStackAdapterFactory.INSTANCE.getProfileCache().invalidate(texture);
+
+        final long hits = ItemStackAdapterFactory.INSTANCE.getProfileCache().getHits();
+
+        final ItemStack first = adapter.fromJson(definition);
+        final ItemStack second = adapter.fromJson(definition);
+
+        // Profile should be built once and reused by the second item
+        assertEquals(hits + 1, ItemStackAdapterFactory.INSTANCE.getProfileCache().getHits());
+        assertEquals(first.getData(DataComponentTypes.PROFILE), second.getData(DataComponentTypes.PROFILE));
+        assertEquals(first, second);
+    }
+
+    public static final class Config implements JsonConfiguration {
+
+        @JsonPath("first")
+        public static ItemStack FIRST;
+
+        @JsonPath("second")
+        public static ItemStack SECOND;
+
+        @JsonPath("third")
+        public static ItemStack THIRD;
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package cloud.grabsky.configuration.paper.tests;
+
+import cloud.grabsky.configuration.paper.adapter.ItemStackAdapterFactory;
+import com.squareup.moshi.JsonAdapter;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Requires registries of a running server. See ServerEnvironment for details.
+@EnabledIf("cloud.grabsky.configuration.paper.tests.ServerEnvironment#isServerRunning")
+public class TestItemStackEquivalence {
+
+    private final JsonAdapter<ItemStack> current = ServerEnvironment.moshi(ItemStackAdapterFactory.INSTANCE).adapter(ItemStack.class);
+
+    private final JsonAdapter<ItemStack> legacy = ServerEnvironment.moshi(LegacyItemStackAdapterFactory.INSTANCE).adapter(ItemStack.class);
+
+    private void assertEquivalent(final String json) throws IOException {
+        assertEquals(legacy.fromJson(json), current.fromJson(json), json);
+    }
+
+    @Test
+    public void checkSimple() throws IOException {
+        assertEquivalent("""
+                { "material": "minecraft:stone" }
+                """);
+        assertEquivalent("""
+                { "material": "minecraft:diamond", "amount": 16 }
+                """);
+        assertEquivalent("""
+                { "material": "minecraft:diamond_sword", "meta": { "name": "<red>Sword", "custom_name": "<gold>Named", "lore": ["<gray>First", "<gray>Second"], "rarity": "epic" } }
+                """);
+        assertEquivalent("""
+                { "material": "minecraft:diamond_sword", "meta": { "durability": 100, "max_stack_size": 1, "enchantment_glint_override": true, "model": "minecraft:stick" } }
+                """);
+    }
+
+    @Test
+    public void checkComponents() throws IOException {
+        // Components applied on their own.
+        assertEquivalent("""
+                { "material": "minecraft:diamond_sword", "meta": { "components": "[minecraft:unbreakable={},minecraft:max_damage=50]" } }
+                """);
+        // Components overridden by values specified in meta, regardless of the order they are specified in.
+        assertEquivalent("""
+                { "material": "minecraft:diamond_sword", "meta": { "max_damage": 100, "components": "[minecraft:max_damage=50,minecraft:rarity=rare]" } }
+                """);
+        assertEquivalent("""
+                { "material": "minecraft:diamond_sword", "meta": { "components": "[minecraft:max_damage=50,minecraft:rarity=rare]", "max_damage": 100 } }
+                """);
+        // Enchantments merged with these specified in components.
+        assertEquivalent("""
+                { "material": "minecraft:diamond_sword", "meta": { "components": "[minecraft:enchantments={levels:{'minecraft:sharpness':2}}]", "enchantments": [{ "key": "minecraft:unbreaking", "level": 3 }] } }
+                """);
+    }
+
+    @Test
+    public void checkEnchantments() throws IOException {
+        assertEquivalent("""
+                { "material": "minecraft:diamond_sword", "meta": { "enchantments": [{ "key": "minecraft:sharpness", "level": 5 }, { "key": "minecraft:unbreaking", "level": 3 }] } }
+                """);
+        // Levels above maximum level of the enchantment are allowed.
+        assertEquivalent("""
+                { "material": "minecraft:diamond_sword", "meta": { "enchantments": [{ "key": "minecraft:sharpness", "level": 10 }] } }
+                """);
+        // Enchantments which cannot normally be applied on the item are allowed.
+        assertEquivalent("""
+                { "material": "minecraft:stick", "meta": { "enchantments": [{ "key": "minecraft:knockback", "level": 2 }] } }
+                """);
+    }
+
+    @Test
+    public void checkStoredEnchantments() throws IOException {
+        assertEquivalent("""
+                { "material": "minecraft:enchanted_book", "meta": { "stored_enchantments": [{ "key": "minecraft:mending", "level": 1 }, { "key": "minecraft:efficiency", "level": 5 }] } }
+                """);
+    }
+
+    @Test
+    public void checkCustomModelData() throws IOException {
+        assertEquivalent("""
+                { "material": "minecraft:paper", "meta": { "custom_model_data": 1001 } }
+                """);
+        assertEquivalent("""
+                { "material": "minecraft:paper", "meta": { "custom_model_data": 7, "components": "[minecraft:custom_model_data={floats:[3.0f]}]" } }
+                """);
+    }
+
+    @Test
+    public void checkSkullTexture() throws IOException {
+        // Texture specified as URL.
+        assertEquivalent("""
+                { "material": "minecraft:player_head", "meta": { "skull_texture": "http://textures.minecraft.net/texture/4f2a5b9e6d51c4b1b6f9b5b2c1e5a9c7f3f1e2d3c4b5a6978877665544332211" } }
+                """);
+        // Texture specified as base64-encoded value.
+        assertEquivalent("""
+                { "material": "minecraft:player_head", "meta": { "skull_texture": "eyJ0ZXh0dXJlcyI6eyJTS0lOIjp7InVybCI6Imh0dHA6Ly90ZXh0dXJlcy5taW5lY3JhZnQubmV0L3RleHR1cmUvNGYyYTViOWU2ZDUxYzRiMWI2ZjliNWIyYzFlNWE5YzdmM2YxZTJkM2M0YjVhNjk3ODg3NzY2NTU0NDMzMjIxMSJ9fX0=" } }
+                """);
+    }
+
+    @Test
+    public void checkPersistentData() throws IOException {
+        assertEquivalent("""
+                { "material": "minecraft:stone", "meta": { "persistent_data_container": [
+                    { "key": "test:string", "type": "string", "value": "Hello" },
+                    { "key": "test:integer", "type": "integer", "value": 42 },
+                    { "key": "test:long", "type": "long", "value": 9007199254740993 },
+                    { "key": "test:double", "type": "double", "value": 0.5 },
+                    { "key": "test:integer_array", "type": "integer_array", "value": [1, 2, 3] }
+                ] } }
+                """);
+    }
+
+    @Test
+    public void checkDataComponents() throws IOException {
+        assertEquivalent("""
+                { "material": "minecraft:apple", "meta": { "food": { "nutrition": 10, "saturation": 2.5, "can_always_eat": true }, "consumable": { "consume_seconds": 0.5, "animation": "drink", "has_consume_particles": false } } }
+                """);
+        assertEquivalent("""
+                { "material": "minecraft:stick", "meta": { "food": { "nutrition": 1 } } }
+                """);
+        assertEquivalent("""
+                { "material": "minecraft:carved_pumpkin", "meta": { "equippable": { "slot": "HEAD", "swappable": true, "camera_overlay": "minecraft:misc/pumpkinblur" } } }
+                """);
+        assertEquivalent("""
+                { "material": "minecraft:note_block", "meta": { "note_block_sound": "minecraft:block.note_block.bell" } }
+                """);
+    }
+
+}
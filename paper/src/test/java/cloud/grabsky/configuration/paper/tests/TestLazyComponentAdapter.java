@@ -0,0 +1,44 @@
+package cloud.grabsky.configuration.paper.tests;
+
+import cloud.grabsky.configuration.paper.adapter.ComponentAdapter;
+import cloud.grabsky.configuration.paper.adapter.LazyComponentAdapter;
+import cloud.grabsky.configuration.paper.object.LazyComponent;
+import com.squareup.moshi.JsonDataException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestLazyComponentAdapter {
+
+    @Test
+    public void checkTokens() throws IOException {
+        final String[] values = {
+                "\"<yellow>Welcome, <bold>player</bold>!\"",
+                "[\"<red>First line\", \"<gray>Second line\"]",
+                "{ \"text\": \"Welcome\", \"color\": \"yellow\", \"extra\": [{ \"text\": \"!\", \"bold\": true }] }"
+        };
+        // Lazy components should resolve to the same components as ones read by ComponentAdapter
+        for (final String value : values) {
+            final LazyComponent component = LazyComponentAdapter.INSTANCE.fromJson(value);
+            assertFalse(component.isParsed());
+            assertEquals(ComponentAdapter.INSTANCE.fromJson(value).compact(), component.asComponent().compact(), value);
+        }
+        // Null values should be read as null
+        assertNull(LazyComponentAdapter.INSTANCE.fromJson("null"));
+    }
+
+    @Test
+    public void checkInvalid() {
+        // Other tokens should be rejected
+        assertThrows(JsonDataException.class, () -> LazyComponentAdapter.INSTANCE.fromJson("10"));
+        assertThrows(JsonDataException.class, () -> LazyComponentAdapter.INSTANCE.fromJson("true"));
+        // Broken text should be rejected
+        assertThrows(JsonDataException.class, () -> LazyComponentAdapter.INSTANCE.fromJson("\"<yellow Welcome!\""));
+    }
+
+}
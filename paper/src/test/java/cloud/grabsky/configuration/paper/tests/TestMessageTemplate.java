@@ -0,0 +1,61 @@
+package cloud.grabsky.configuration.paper.tests;
+
+import cloud.grabsky.configuration.paper.object.MessageTemplate;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestMessageTemplate {
+
+    @Test
+    public void checkStyledSlot() {
+        final MessageTemplate template = MessageTemplate.compile("<yellow><player>", MiniMessage.miniMessage(), TagResolver.standard());
+
+        // Value of the slot should inherit style of the slot
+        final Component rendered = template.render(Map.of("player", Component.text("Steve")));
+        assertEquals(NamedTextColor.YELLOW, findColor(rendered, "Steve", null));
+
+        // Color specified by the value should take precedence
+        final Component colored = template.render(Map.of("player", Component.text("Steve", NamedTextColor.RED)));
+        assertEquals(NamedTextColor.RED, findColor(colored, "Steve", null));
+
+        // Slot without a value should be rendered using style of the slot as well
+        final Component unresolved = template.render(Map.of());
+        assertEquals(NamedTextColor.YELLOW, findColor(unresolved, "<player>", null));
+    }
+
+    @Test
+    public void checkStyledSlotInsideText() {
+        final MessageTemplate template = MessageTemplate.compile("<gray>Welcome, <yellow><player></yellow>!", MiniMessage.miniMessage(), TagResolver.standard());
+
+        final Component rendered = template.render(Map.of("player", Component.text("Steve")));
+        assertEquals(NamedTextColor.YELLOW, findColor(rendered, "Steve", null));
+        assertEquals(NamedTextColor.GRAY, findColor(rendered, "!", null));
+    }
+
+    // Returns effective color of the first text component with provided content.
+    private static @Nullable TextColor findColor(final @NotNull Component component, final @NotNull String content, final @Nullable TextColor inherited) {
+        final @Nullable TextColor color = (component.color() != null) ? component.color() : inherited;
+        // ...
+        if (component instanceof TextComponent text && text.content().equals(content) == true)
+            return color;
+        // ...
+        for (final Component child : component.children()) {
+            final @Nullable TextColor found = findColor(child, content, color);
+            if (found != null)
+                return found;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,29 @@
+package cloud.grabsky.configuration.paper.tests;
+
+import cloud.grabsky.configuration.paper.util.MiniMessages;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestMiniMessages {
+
+    @Test
+    public void checkValidate() {
+        final TagResolver tags = TagResolver.standard();
+
+        // Unknown tags should be allowed, as they can be resolved later
+        assertDoesNotThrow(() -> MiniMessages.validate("<yellow>Welcome, <player>!", tags));
+        assertDoesNotThrow(() -> MiniMessages.validate("<placeholder:argument>", tags));
+
+        // Text which only looks like a tag should be allowed
+        assertDoesNotThrow(() -> MiniMessages.validate("I <3 you", tags));
+
+        // Tags which are not closed should be rejected
+        assertThrows(IllegalArgumentException.class, () -> MiniMessages.validate("<yellow Welcome!", tags));
+        assertThrows(IllegalArgumentException.class, () -> MiniMessages.validate("<click:run_command:'/spawn'", tags));
+        assertThrows(IllegalArgumentException.class, () -> MiniMessages.validate("<hover:show_text:'Unterminated>Text", tags));
+    }
+
+}